@@ -1,11 +1,19 @@
 package com.wenect.donation_paltform.domain.donation.controller;
 
 import com.wenect.donation_paltform.domain.donation.dto.DonationResponse;
+import com.wenect.donation_paltform.domain.donation.dto.RecentDonationResponse;
+import com.wenect.donation_paltform.domain.donation.dto.StatsRecomputeReport;
 import com.wenect.donation_paltform.domain.donation.service.DonationService;
+import com.wenect.donation_paltform.domain.donation.service.ProjectStatsRecomputeService;
+import com.wenect.donation_paltform.domain.donation.service.RecentDonationFeed;
+import com.wenect.donation_paltform.global.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,6 +28,9 @@ import java.util.List;
 public class DonationController {
 
     private final DonationService donationService;
+    private final ProjectStatsRecomputeService projectStatsRecomputeService;
+    private final RecentDonationFeed recentDonationFeed;
+    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 프로젝트별 기부 내역 목록 조회
@@ -52,14 +63,26 @@ public class DonationController {
     }
 
     /**
-     * 최근 기부 내역 조회
+     * 최근 기부 내역 조회 (메모리 피드, DB 조회 없음)
      */
     @GetMapping("/recent")
-    public ResponseEntity<List<DonationResponse>> getRecentDonations(
+    public ResponseEntity<List<RecentDonationResponse>> getRecentDonations(
             @RequestParam(value = "limit", defaultValue = "10") int limit) {
-        log.info("최근 기부 내역 조회 요청 - limit: {}", limit);
-        List<DonationResponse> donations = donationService.getRecentDonations(limit);
-        return ResponseEntity.ok(donations);
+        return ResponseEntity.ok(recentDonationFeed.getRecent(limit));
+    }
+
+    /**
+     * 최근 기부 실시간 구독 (SSE)
+     * 연결 직후 "snapshot" 이벤트로 현재 목록, 이후 새 기부마다 "donation" 이벤트 전송
+     */
+    @GetMapping(value = "/recent/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRecentDonations() {
+        try {
+            return ResponseEntity.ok(recentDonationFeed.subscribe());
+        } catch (IllegalStateException e) {
+            log.warn("최근 기부 구독 거절 - {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
 
     /**
@@ -69,10 +92,36 @@ public class DonationController {
     public ResponseEntity<String> recalculateProjectStats(@PathVariable Long projectId) {
         log.info("프로젝트 통계 재계산 요청 - projectId: {}", projectId);
         try {
-            donationService.recalculateProjectStats(projectId);
+            StatsRecomputeReport.Drift drift = projectStatsRecomputeService.recomputeProject(projectId);
+            if (drift != null) {
+                log.info("프로젝트 통계 보정 - projectId: {}, 모금액: {} → {}, 기부자 수: {} → {}",
+                        projectId, drift.getStoredAmount(), drift.getComputedAmount(),
+                        drift.getStoredDonorCount(), drift.getComputedDonorCount());
+            }
             return ResponseEntity.ok("프로젝트 통계가 재계산되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    /**
+     * 전체 프로젝트 통계 재계산 (관리자 전용, 저장값과 다른 프로젝트만 갱신하고 차이를 보고)
+     */
+    @PostMapping("/projects/recalculate")
+    public ResponseEntity<StatsRecomputeReport> recalculateAllProjectStats(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        if (!isAdmin(authHeader)) {
+            return ResponseEntity.status(403).build();
+        }
+        log.info("전체 프로젝트 통계 재계산 요청");
+        return ResponseEntity.ok(projectStatsRecomputeService.recomputeAll());
+    }
+
+    private boolean isAdmin(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return false;
+        }
+        String token = authHeader.substring(7);
+        return jwtTokenProvider.validateToken(token) && "ADMIN".equals(jwtTokenProvider.getUserType(token));
+    }
 }
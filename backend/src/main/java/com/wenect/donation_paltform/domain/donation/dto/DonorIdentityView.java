@@ -0,0 +1,17 @@
+package com.wenect.donation_paltform.domain.donation.dto;
+
+/**
+ * 고유 기부자 식별에 필요한 기부 컬럼 프로젝션
+ */
+public interface DonorIdentityView {
+
+    Long getDonationId();
+
+    Long getProjectId();
+
+    Long getUserId();
+
+    String getDonorEmail();
+
+    String getDonorPhone();
+}
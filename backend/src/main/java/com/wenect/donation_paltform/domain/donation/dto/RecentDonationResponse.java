@@ -0,0 +1,26 @@
+package com.wenect.donation_paltform.domain.donation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 최근 기부 피드 항목 (홈페이지 공개용, 연락처/결제 정보 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentDonationResponse {
+
+    private Long donationId;
+    private Long projectId;
+    private String projectTitle;
+    private String donorName;       // 익명 기부는 "익명"
+    private BigDecimal amount;
+    private LocalDateTime timestamp; // 승인 시각 (없으면 생성 시각)
+}
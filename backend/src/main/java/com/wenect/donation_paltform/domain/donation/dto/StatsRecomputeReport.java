@@ -0,0 +1,33 @@
+package com.wenect.donation_paltform.domain.donation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 프로젝트 통계 일괄 재계산 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StatsRecomputeReport {
+
+    private int scannedProjects;       // 확인한 프로젝트 수
+    private int changedProjects;       // 저장값과 집계값이 달라 갱신한 프로젝트 수
+    private BigDecimal totalAmountDrift;  // 갱신 전후 모금액 차이 합계 (집계값 - 저장값)
+    private long elapsedMillis;
+    private List<Drift> drifts;        // 갱신한 프로젝트 상세 (최대 100건)
+
+    @Getter
+    @AllArgsConstructor
+    public static class Drift {
+        private Long projectId;
+        private BigDecimal storedAmount;
+        private BigDecimal computedAmount;
+        private long storedDonorCount;
+        private long computedDonorCount;
+    }
+}
@@ -72,6 +72,10 @@ public class Donation {
     @Column(name = "approved_at")
     private LocalDateTime approvedAt;  // 결제 승인 시간
 
+    // 프로젝트 모금액 집계 배치 ID (NULL이면 아직 집계 전, DonationTallyService만 기록)
+    @Column(name = "tally_batch", length = 36, insertable = false, updatable = false)
+    private String tallyBatch;
+
     @Column(name = "donated_at", nullable = false, updatable = false)
     private LocalDateTime donatedAt;  // 기부 시간
 
@@ -121,6 +125,7 @@ public class Donation {
         COMPLETED,  // 결제 완료
         CANCELLED,  // 결제 취소
         FAILED,     // 결제 실패
-        REFUNDED    // 환불
+        REFUNDED,   // 환불
+        EXPIRED     // 결제 미완료 상태로 유효 시간 경과 (PendingDonationReaper)
     }
 }
@@ -0,0 +1,45 @@
+package com.wenect.donation_paltform.domain.donation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고유 기부자 수 HyperLogLog 스케치 (donor_sketches)
+ * 프로젝트별("project:{id}")과 플랫폼 전체("global") 스케치를 한 테이블에 보관
+ */
+@Entity
+@Table(name = "donor_sketches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DonorSketch {
+
+    public static final String GLOBAL_KEY = "global";
+
+    @Id
+    @Column(name = "sketch_key", length = 50)
+    private String sketchKey;
+
+    // HyperLogLog.toBytes() 직렬화 값 (기부자가 적으면 sparse 인코딩이라 수십 바이트)
+    @Column(name = "registers", nullable = false, columnDefinition = "VARBINARY(4100)")
+    private byte[] registers;
+
+    // registers로부터 계산한 추정 고유 기부자 수 (조회 시 역직렬화 없이 사용)
+    @Column(name = "estimate", nullable = false)
+    private Long estimate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 전체 스케치 백필이 마지막 병합까지 끝난 시각 (전체 스케치에만 사용, null이면 백필 미완료)
+    @Column(name = "backfill_completed_at")
+    private LocalDateTime backfillCompletedAt;
+
+    public static String projectKey(Long projectId) {
+        return "project:" + projectId;
+    }
+}
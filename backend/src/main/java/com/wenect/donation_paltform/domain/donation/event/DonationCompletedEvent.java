@@ -0,0 +1,25 @@
+package com.wenect.donation_paltform.domain.donation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * 기부 완료(결제 승인) 이벤트
+ * DonationService.approveDonation 트랜잭션 안에서 발행하고, 리스너는 커밋 이후 처리
+ * 같은 내용을 아웃박스(OUTBOX_TYPE)에도 저장해 알림 등 유실되면 안 되는 후속 처리에 사용
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DonationCompletedEvent {
+
+    public static final String OUTBOX_TYPE = "DONATION_COMPLETED";
+
+    private final Long donationId;
+    private final Long projectId;
+    private final Long userId; // 비회원은 null
+    private final BigDecimal amount;
+}
@@ -0,0 +1,18 @@
+package com.wenect.donation_paltform.domain.donation.event;
+
+import com.wenect.donation_paltform.domain.donation.dto.RecentDonationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 최근 기부 피드에 추가할 완료 기부
+ * DonationService.approveDonation 트랜잭션 안에서 발행하고, RecentDonationFeed가 커밋 이후 반영
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DonationFeedEvent {
+
+    private final RecentDonationResponse donation;
+}
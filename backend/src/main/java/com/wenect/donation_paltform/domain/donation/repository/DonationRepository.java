@@ -1,10 +1,16 @@
 package com.wenect.donation_paltform.domain.donation.repository;
 
+import com.wenect.donation_paltform.domain.donation.dto.DonorIdentityView;
 import com.wenect.donation_paltform.domain.donation.entity.Donation;
+import com.wenect.donation_paltform.domain.project.dto.ProjectDonationStatsView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +27,39 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
      */
     List<Donation> findByProjectIdOrderByCreatedAtDesc(Long projectId);
 
+    /**
+     * 프로젝트의 특정 상태 기부 내역 목록 조회 (최신순)
+     */
+    List<Donation> findByProjectIdAndStatusOrderByCreatedAtDesc(Long projectId, Donation.DonationStatus status);
+
+    /**
+     * 프로젝트 기부자 목록 첫 페이지 (최신순)
+     * (project_id, status, created_at, donation_id) 인덱스를 역방향으로 읽고 size+1건에서 멈춤
+     */
+    @Query("SELECT d FROM Donation d " +
+            "WHERE d.projectId = :projectId AND d.status = :status " +
+            "AND (:includeAnonymous = true OR d.isAnonymous = false) " +
+            "ORDER BY d.createdAt DESC, d.donationId DESC")
+    List<Donation> findDonorsFirstPage(@Param("projectId") Long projectId,
+                                       @Param("status") Donation.DonationStatus status,
+                                       @Param("includeAnonymous") boolean includeAnonymous,
+                                       Pageable pageable);
+
+    /**
+     * 프로젝트 기부자 목록 다음 페이지 (커서: 이전 페이지 마지막 행의 createdAt, donationId)
+     */
+    @Query("SELECT d FROM Donation d " +
+            "WHERE d.projectId = :projectId AND d.status = :status " +
+            "AND (:includeAnonymous = true OR d.isAnonymous = false) " +
+            "AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.donationId < :donationId)) " +
+            "ORDER BY d.createdAt DESC, d.donationId DESC")
+    List<Donation> findDonorsAfter(@Param("projectId") Long projectId,
+                                   @Param("status") Donation.DonationStatus status,
+                                   @Param("includeAnonymous") boolean includeAnonymous,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("donationId") Long donationId,
+                                   Pageable pageable);
+
     /**
      * 사용자 ID로 기부 내역 목록 조회
      */
@@ -35,4 +74,126 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
      * 상태별로 최근 기부 내역 조회 (제한된 개수)
      */
     List<Donation> findByStatusOrderByCreatedAtDesc(Donation.DonationStatus status, Pageable pageable);
+
+    /**
+     * 기준 시각 이전에 생성된 PENDING 기부를 EXPIRED로 변경 (오래된 것부터 최대 limit건)
+     * (status, created_at) 인덱스 범위만 읽으므로 잠그는 행도 최대 limit건
+     * 결제 준비(tid 발급)까지 간 기부는 PG에서 승인되었을 수 있으므로 제외 (주문 조회 후 개별 처리)
+     */
+    @Modifying
+    @Query(value = "UPDATE donations SET status = 'EXPIRED', updated_at = NOW(6) " +
+            "WHERE status = 'PENDING' AND created_at < :cutoff AND payment_tid IS NULL " +
+            "ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    int expirePendingBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 기준 시각 이전에 생성되어 tid를 받은 PENDING 기부 (오래된 순, 주문 조회로 정리할 대상)
+     */
+    @Query(value = "SELECT * FROM donations " +
+            "WHERE status = 'PENDING' AND created_at < :cutoff AND payment_tid IS NOT NULL " +
+            "ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    List<Donation> findPendingWithTidBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 결제 대기(또는 대기 중 만료된) 기부를 완료로 변경
+     * 조건부 UPDATE라 승인 콜백/재시도/주문 조회 정리가 동시에 와도 한 요청만 1을 받음
+     *
+     * @return 완료로 바꿨으면 1, 이미 완료됐거나 다른 상태면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE donations SET status = 'COMPLETED', payment_tid = :tid, payment_aid = :aid, " +
+            "payment_method_type = :paymentMethodType, approved_at = :approvedAt, updated_at = NOW(6) " +
+            "WHERE order_id = :orderId AND status IN ('PENDING', 'EXPIRED')",
+            nativeQuery = true)
+    int completeIfPending(@Param("orderId") String orderId,
+                          @Param("tid") String tid,
+                          @Param("aid") String aid,
+                          @Param("paymentMethodType") String paymentMethodType,
+                          @Param("approvedAt") LocalDateTime approvedAt);
+
+    /**
+     * 아직 PENDING인 기부만 EXPIRED로 변경 (그 사이 승인되었으면 그대로 둠)
+     *
+     * @return 변경했으면 1, 이미 다른 상태면 0
+     */
+    @Modifying
+    @Query(value = "UPDATE donations SET status = 'EXPIRED', updated_at = NOW(6) " +
+            "WHERE donation_id = :donationId AND status = 'PENDING'",
+            nativeQuery = true)
+    int expirePendingById(@Param("donationId") Long donationId);
+
+    // ==================== 모금액 집계 (DonationTallyService) ====================
+
+    /**
+     * 아직 집계되지 않은 완료 기부를 배치 ID로 선점
+     * 이미 다른 인스턴스가 선점한 행은 tally_batch가 채워져 있어 다시 잡히지 않음
+     */
+    @Modifying
+    @Query(value = "UPDATE donations SET tally_batch = :batch " +
+            "WHERE tally_batch IS NULL AND status = 'COMPLETED' " +
+            "ORDER BY donation_id LIMIT :limit",
+            nativeQuery = true)
+    int claimUntallied(@Param("batch") String batch, @Param("limit") int limit);
+
+    /**
+     * 선점한 배치를 프로젝트별로 합산해 모금액/기부자 수에 더함
+     * 프로젝트마다 UPDATE 한 번이므로 기부 건수와 관계없이 행 잠금도 한 번
+     */
+    @Modifying
+    @Query(value = "UPDATE projects p " +
+            "JOIN (SELECT project_id, SUM(amount) AS total, COUNT(*) AS cnt " +
+            "      FROM donations WHERE tally_batch = :batch GROUP BY project_id) d " +
+            "  ON d.project_id = p.project_id " +
+            "SET p.current_amount = p.current_amount + d.total, " +
+            "    p.donor_count = p.donor_count + d.cnt",
+            nativeQuery = true)
+    int applyTallyBatch(@Param("batch") String batch);
+
+    /**
+     * 배치에 포함된 프로젝트 ID
+     */
+    @Query(value = "SELECT DISTINCT project_id FROM donations WHERE tally_batch = :batch", nativeQuery = true)
+    List<Long> findProjectIdsByTallyBatch(@Param("batch") String batch);
+
+    /**
+     * 배치에 포함된 기부의 기부자 식별 정보 (고유 기부자 스케치 반영용)
+     */
+    @Query(value = "SELECT donation_id AS donationId, project_id AS projectId, user_id AS userId, " +
+            "donor_email AS donorEmail, donor_phone AS donorPhone " +
+            "FROM donations WHERE tally_batch = :batch",
+            nativeQuery = true)
+    List<DonorIdentityView> findDonorIdentitiesByTallyBatch(@Param("batch") String batch);
+
+    /**
+     * 집계된 완료 기부의 기부자 식별 정보 (donation_id 순 키셋, 스케치 백필용)
+     */
+    @Query(value = "SELECT donation_id AS donationId, project_id AS projectId, user_id AS userId, " +
+            "donor_email AS donorEmail, donor_phone AS donorPhone " +
+            "FROM donations " +
+            "WHERE status = 'COMPLETED' AND tally_batch IS NOT NULL AND donation_id > :afterId " +
+            "ORDER BY donation_id LIMIT :limit",
+            nativeQuery = true)
+    List<DonorIdentityView> findTalliedDonorIdentitiesAfter(@Param("afterId") Long afterId,
+                                                           @Param("limit") int limit);
+
+    /**
+     * 범위 내 프로젝트별 집계된 완료 기부 합계 (기부가 없는 프로젝트는 행이 없음)
+     */
+    @Query(value = "SELECT project_id AS projectId, SUM(amount) AS totalAmount, COUNT(*) AS donorCount " +
+            "FROM donations " +
+            "WHERE project_id BETWEEN :fromId AND :toId " +
+            "  AND status = 'COMPLETED' AND tally_batch IS NOT NULL " +
+            "GROUP BY project_id",
+            nativeQuery = true)
+    List<ProjectDonationStatsView> sumTalliedByProjectIdBetween(@Param("fromId") Long fromId,
+                                                                 @Param("toId") Long toId);
+
+    /**
+     * 집계 대기 중인 완료 기부 수
+     */
+    @Query(value = "SELECT COUNT(*) FROM donations WHERE tally_batch IS NULL AND status = 'COMPLETED'",
+            nativeQuery = true)
+    long countUntallied();
 }
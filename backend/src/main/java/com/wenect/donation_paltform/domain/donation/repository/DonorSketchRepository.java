@@ -0,0 +1,47 @@
+package com.wenect.donation_paltform.domain.donation.repository;
+
+import com.wenect.donation_paltform.domain.donation.entity.DonorSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DonorSketchRepository extends JpaRepository<DonorSketch, String> {
+
+    /**
+     * 스케치 행이 없으면 빈 스케치로 생성, 있으면 그대로 둠
+     * 어느 쪽이든 행에 배타 잠금이 걸리므로 키 순서대로 호출해 교착을 피함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO donor_sketches (sketch_key, registers, estimate, updated_at) " +
+            "VALUES (:sketchKey, :registers, 0, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE sketch_key = sketch_key",
+            nativeQuery = true)
+    int ensureExists(@Param("sketchKey") String sketchKey, @Param("registers") byte[] registers);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DonorSketch s WHERE s.sketchKey IN :sketchKeys ORDER BY s.sketchKey")
+    List<DonorSketch> findAllForUpdate(@Param("sketchKeys") Collection<String> sketchKeys);
+
+    @Query("SELECT s.estimate FROM DonorSketch s WHERE s.sketchKey = :sketchKey")
+    Optional<Long> findEstimate(@Param("sketchKey") String sketchKey);
+
+    // 백필이 끝난 스케치의 추정치 (전체 스케치용)
+    @Query("SELECT s.estimate FROM DonorSketch s WHERE s.sketchKey = :sketchKey AND s.backfillCompletedAt IS NOT NULL")
+    Optional<Long> findBackfilledEstimate(@Param("sketchKey") String sketchKey);
+
+    boolean existsBySketchKeyAndBackfillCompletedAtIsNotNull(String sketchKey);
+
+    @Modifying
+    @Query("UPDATE DonorSketch s SET s.backfillCompletedAt = :completedAt WHERE s.sketchKey = :sketchKey")
+    int markBackfillCompleted(@Param("sketchKey") String sketchKey, @Param("completedAt") LocalDateTime completedAt);
+}
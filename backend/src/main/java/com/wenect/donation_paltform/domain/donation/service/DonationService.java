@@ -3,19 +3,25 @@ package com.wenect.donation_paltform.domain.donation.service;
 import com.wenect.donation_paltform.domain.donation.dto.DonationRequest;
 import com.wenect.donation_paltform.domain.donation.dto.DonationResponse;
 import com.wenect.donation_paltform.domain.donation.entity.Donation;
+import com.wenect.donation_paltform.domain.donation.event.DonationCompletedEvent;
+import com.wenect.donation_paltform.domain.donation.event.DonationFeedEvent;
 import com.wenect.donation_paltform.domain.donation.repository.DonationRepository;
-import com.wenect.donation_paltform.domain.notification.service.NotificationService;
+import com.wenect.donation_paltform.domain.project.dto.DonorResponseDto;
 import com.wenect.donation_paltform.domain.project.entity.Project;
 import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.global.common.PageResponse;
+import com.wenect.donation_paltform.global.outbox.OutboxService;
+import com.wenect.donation_paltform.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -27,7 +33,10 @@ public class DonationService {
 
     private final DonationRepository donationRepository;
     private final ProjectRepository projectRepository;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_DONOR_PAGE_SIZE = 100;
 
     /**
      * 기부 내역 생성 (결제 준비 단계)
@@ -65,47 +74,40 @@ public class DonationService {
 
     /**
      * 결제 승인 처리
+     * 트랜잭션은 결제 상태 변경만 커밋하고, 알림 등 후속 처리는 아웃박스로 넘김
      */
     @Transactional
     public void approveDonation(String orderId, String tid, String aid, String paymentMethodType) {
         log.info("기부 승인 처리 - orderId: {}, tid: {}", orderId, tid);
 
-        // 기부 내역 조회
+        // 조건부 UPDATE로 완료 처리를 선점 - 승인 콜백, 재시도 콜백, 주문 조회 정리(PendingDonationReaper)가
+        // 동시에 와도 1을 받은 한 요청만 아래 후속 처리(아웃박스/이벤트)를 진행
+        int claimed = donationRepository.completeIfPending(orderId, tid, aid, paymentMethodType, LocalDateTime.now());
+
+        // 기부 내역 조회 (UPDATE 이후 값)
         Donation donation = donationRepository.findByOrderId(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("기부 내역을 찾을 수 없습니다."));
 
-        // 프로젝트 정보 조회 (알림에 사용)
-        Project project = projectRepository.findById(donation.getProjectId())
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
+        if (claimed == 0) {
+            log.info("이미 처리된 기부 - orderId: {}, status: {}", orderId, donation.getStatus());
+            return;
+        }
 
-        // 기부 내역 업데이트
-        donation.setStatus(Donation.DonationStatus.COMPLETED);
-        donation.setPaymentTid(tid);
-        donation.setPaymentAid(aid);
-        donation.setPaymentMethodType(paymentMethodType);
-        donation.setApprovedAt(LocalDateTime.now());
-        donationRepository.save(donation);
+        // 프로젝트 모금액/기부자 수는 DonationTallyService가 완료 기부를 모아 일괄 반영
+        // (인기 프로젝트에 승인이 몰려도 프로젝트 행 잠금을 기다리지 않음)
 
-        // 프로젝트 모금액 및 기부자 수 업데이트
-        updateProjectDonationStats(donation.getProjectId(), donation.getAmount());
+        DonationCompletedEvent completedEvent = new DonationCompletedEvent(
+                donation.getDonationId(), donation.getProjectId(), donation.getUserId(), donation.getAmount());
 
-        // 회원 기부인 경우 알림 생성 (비회원은 userId가 null)
-        if (donation.getUserId() != null) {
-            try {
-                notificationService.createDonationNotification(
-                        donation.getUserId(),
-                        project.getTitle(),
-                        project.getProjectId(),
-                        donation.getAmount().longValue()
-                );
-                log.info("기부 완료 알림 생성 - userId: {}, projectId: {}",
-                        donation.getUserId(), project.getProjectId());
-            } catch (Exception e) {
-                // 알림 생성 실패는 기부 승인 프로세스에 영향을 주지 않음
-                log.error("알림 생성 실패 - userId: {}, projectId: {}",
-                        donation.getUserId(), project.getProjectId(), e);
-            }
-        }
+        // 알림 등 유실되면 안 되는 후속 처리: 같은 트랜잭션에서 아웃박스에 저장 (OutboxDispatcher가 비동기 처리)
+        outboxService.append(DonationCompletedEvent.OUTBOX_TYPE, donation.getDonationId(), completedEvent);
+
+        // 트렌딩 등 메모리 처리 (커밋 이후)
+        eventPublisher.publishEvent(completedEvent);
+
+        // 홈페이지 최근 기부 피드 (커밋 이후 RecentDonationFeed 버퍼/SSE 반영)
+        String projectTitle = projectRepository.findTitleById(donation.getProjectId()).orElse(null);
+        eventPublisher.publishEvent(new DonationFeedEvent(RecentDonationFeed.toEntry(donation, projectTitle)));
 
         log.info("기부 승인 완료 - donationId: {}, amount: {}", donation.getDonationId(), donation.getAmount());
     }
@@ -138,27 +140,6 @@ public class DonationService {
         log.info("기부 실패 처리 완료 - orderId: {}", orderId);
     }
 
-    /**
-     * 프로젝트의 모금액 및 기부자 수 업데이트
-     */
-    @Transactional
-    public void updateProjectDonationStats(Long projectId, BigDecimal amount) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-
-        // 현재 모금액 업데이트
-        BigDecimal newAmount = project.getCurrentAmount().add(amount);
-        project.setCurrentAmount(newAmount);
-
-        // 기부자 수 증가
-        project.setDonorCount(project.getDonorCount() + 1);
-
-        projectRepository.save(project);
-
-        log.info("프로젝트 통계 업데이트 완료 - projectId: {}, currentAmount: {}, donorCount: {}",
-                projectId, newAmount, project.getDonorCount());
-    }
-
     /**
      * 주문 ID로 기부 내역 조회
      */
@@ -173,33 +154,73 @@ public class DonationService {
      */
     @Transactional(readOnly = true)
     public List<DonationResponse> getDonationsByProjectId(Long projectId) {
-        List<Donation> donations = donationRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
         // COMPLETED 상태의 기부만 반환 (통계 일치를 위해)
-        return donations.stream()
-                .filter(d -> d.getStatus() == Donation.DonationStatus.COMPLETED)
+        return donationRepository.findByProjectIdAndStatusOrderByCreatedAtDesc(
+                        projectId, Donation.DonationStatus.COMPLETED)
+                .stream()
                 .map(DonationResponse::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사용자별 기부 내역 목록 조회
+     * 프로젝트 기부자 목록 조회 (완료된 기부만, 최신순, 커서 기반 페이지네이션)
+     *
+     * @param includeAnonymous false면 익명 기부 제외
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
      */
     @Transactional(readOnly = true)
-    public List<DonationResponse> getDonationsByUserId(Long userId) {
-        List<Donation> donations = donationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return donations.stream()
-                .map(DonationResponse::from)
+    public PageResponse<DonorResponseDto> getProjectDonors(Long projectId, boolean includeAnonymous,
+                                                           String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DONOR_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Donation> donations;
+        if (cursor == null || cursor.isBlank()) {
+            donations = donationRepository.findDonorsFirstPage(
+                    projectId, Donation.DonationStatus.COMPLETED, includeAnonymous, limit);
+        } else {
+            String[] parts = CursorUtils.decode(cursor, 2);
+            LocalDateTime createdAt;
+            Long donationId;
+            try {
+                createdAt = LocalDateTime.parse(parts[0]);
+                donationId = Long.parseLong(parts[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+            }
+            donations = donationRepository.findDonorsAfter(
+                    projectId, Donation.DonationStatus.COMPLETED, includeAnonymous, createdAt, donationId, limit);
+        }
+
+        boolean hasNext = donations.size() > pageSize;
+        List<Donation> page = hasNext ? donations.subList(0, pageSize) : donations;
+        String nextCursor = null;
+        if (hasNext) {
+            Donation last = page.get(page.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getDonationId());
+        }
+
+        List<DonorResponseDto> donors = page.stream()
+                .map(d -> DonorResponseDto.builder()
+                        .id(d.getDonationId())
+                        .name(Boolean.TRUE.equals(d.getIsAnonymous()) ? "익명" : d.getDonorName())
+                        .amount(d.getAmount())
+                        .date(d.getCreatedAt() != null ? d.getCreatedAt().toString() : "")
+                        .isAnonymous(d.getIsAnonymous())
+                        .message(d.getMessage())
+                        .build())
                 .collect(Collectors.toList());
+
+        return PageResponse.ofCursor(donors, pageSize, nextCursor);
     }
 
     /**
-     * 최근 기부 내역 조회 (완료된 기부만)
+     * 사용자별 기부 내역 목록 조회
      */
     @Transactional(readOnly = true)
-    public List<DonationResponse> getRecentDonations(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        List<Donation> donations = donationRepository.findByStatusOrderByCreatedAtDesc(
-                Donation.DonationStatus.COMPLETED, pageable);
+    public List<DonationResponse> getDonationsByUserId(Long userId) {
+        List<Donation> donations = donationRepository.findByUserIdOrderByCreatedAtDesc(userId);
         return donations.stream()
                 .map(DonationResponse::from)
                 .collect(Collectors.toList());
@@ -212,36 +233,4 @@ public class DonationService {
     public Donation saveDonation(Donation donation) {
         return donationRepository.save(donation);
     }
-
-    /**
-     * 프로젝트 통계 재계산 (데이터 불일치 해결용)
-     * 완료된 기부 내역을 기준으로 프로젝트의 currentAmount와 donorCount를 재계산
-     */
-    @Transactional
-    public void recalculateProjectStats(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-
-        // 완료된 기부 내역만 조회
-        List<Donation> completedDonations = donationRepository.findByProjectIdOrderByCreatedAtDesc(projectId)
-                .stream()
-                .filter(d -> d.getStatus() == Donation.DonationStatus.COMPLETED)
-                .collect(Collectors.toList());
-
-        // 총 기부액 계산
-        BigDecimal totalAmount = completedDonations.stream()
-                .map(Donation::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 기부자 수 계산
-        int donorCount = completedDonations.size();
-
-        // 프로젝트 업데이트
-        project.setCurrentAmount(totalAmount);
-        project.setDonorCount(donorCount);
-        projectRepository.save(project);
-
-        log.info("프로젝트 통계 재계산 완료 - projectId: {}, currentAmount: {}, donorCount: {}",
-                projectId, totalAmount, donorCount);
-    }
 }
@@ -0,0 +1,73 @@
+package com.wenect.donation_paltform.domain.donation.service;
+
+import com.wenect.donation_paltform.domain.donation.repository.DonationRepository;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 프로젝트 모금액/기부자 수 일괄 집계
+ *
+ * 결제 승인은 기부 행만 COMPLETED로 바꾸고 프로젝트 행은 건드리지 않음
+ * 주기적으로 집계 전(tally_batch IS NULL) 완료 기부를 배치로 선점해
+ * 프로젝트별 합계를 "current_amount = current_amount + 합계"로 한 번에 더함
+ *
+ * - 선점과 반영이 한 트랜잭션이라 중간에 죽어도 중복/누락 없이 다음 주기에 다시 처리
+ * - 완료된 donations 행이 기준 데이터이며, 재시작 시 남아 있던 미집계분을 바로 반영
+ * - 여러 인스턴스가 동시에 돌아도 행 단위 선점이라 같은 기부를 두 번 더하지 않음
+ * - 고유 기부자 스케치(DonorSketchService)도 같은 트랜잭션에서 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationTallyService {
+
+    // 한 주기에 반영하는 최대 기부 건수
+    private static final int BATCH_SIZE = 5_000;
+
+    private final DonationRepository donationRepository;
+    private final DonorSketchService donorSketchService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 재시작 시 이전 실행에서 반영하지 못한 기부 확인 (실제 반영은 flush 주기에서 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logPendingOnStartup() {
+        long pending = donationRepository.countUntallied();
+        if (pending > 0) {
+            log.info("미집계 완료 기부 {}건 - 집계 주기에서 반영 예정", pending);
+        }
+    }
+
+    /**
+     * 미집계 완료 기부 한 배치를 프로젝트 통계에 반영
+     */
+    @Scheduled(fixedDelayString = "${donation.tally.flush-interval-ms:500}")
+    @Transactional
+    public void flush() {
+        String batch = UUID.randomUUID().toString();
+        int claimed = donationRepository.claimUntallied(batch, BATCH_SIZE);
+        if (claimed == 0) {
+            return;
+        }
+
+        donationRepository.applyTallyBatch(batch);
+        donorSketchService.addTallyBatch(batch);
+
+        List<Long> projectIds = donationRepository.findProjectIdsByTallyBatch(batch);
+        projectIds.forEach(projectId ->
+                eventPublisher.publishEvent(ProjectChangedEvent.donationStatsChanged(projectId)));
+
+        log.debug("기부 집계 반영 - batch: {}, 기부 {}건, 프로젝트 {}개", batch, claimed, projectIds.size());
+    }
+}
@@ -0,0 +1,200 @@
+package com.wenect.donation_paltform.domain.donation.service;
+
+import com.wenect.donation_paltform.domain.donation.dto.DonorIdentityView;
+import com.wenect.donation_paltform.domain.donation.entity.DonorSketch;
+import com.wenect.donation_paltform.domain.donation.repository.DonationRepository;
+import com.wenect.donation_paltform.domain.donation.repository.DonorSketchRepository;
+import com.wenect.donation_paltform.global.lock.SchedulerLockService;
+import com.wenect.donation_paltform.global.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 고유 기부자 수 추정 (HyperLogLog)
+ *
+ * projects.donor_count는 완료 기부 건수라 같은 사람이 여러 번 기부하면 중복 집계됨
+ * 기부자 키(회원 ID, 비회원은 이메일/전화번호)를 프로젝트별·전체 HyperLogLog 스케치에 넣어 고유 기부자 수를 추정
+ *
+ * - DonationTallyService가 승인된 기부를 반영하는 같은 트랜잭션에서 스케치도 갱신 (누락/중복 없이 재시도)
+ * - 스케치 병합은 레지스터별 최댓값이라 같은 기부가 두 번 반영되어도 결과가 같음
+ * - 추정치를 행에 함께 저장해 조회는 PK 한 번 (홈페이지에서 COUNT(DISTINCT) 없음)
+ * - 전체 스케치("global")의 백필 완료 표시(backfill_completed_at)가 없으면 한 레플리카에서 기존 기부로 백필
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonorSketchService {
+
+    private static final String BACKFILL_LOCK_NAME = "donorSketchBackfill";
+    private static final Duration BACKFILL_LOCK_LEASE = Duration.ofMinutes(30);
+    private static final int BACKFILL_SCAN_SIZE = 5_000;
+    // 백필 결과를 DB에 병합할 때 한 트랜잭션에서 잠그는 스케치 수
+    private static final int BACKFILL_MERGE_CHUNK = 500;
+
+    private final DonorSketchRepository donorSketchRepository;
+    private final DonationRepository donationRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 집계 배치에 포함된 기부를 스케치에 반영 (DonationTallyService.flush 트랜잭션 안에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTallyBatch(String batch) {
+        Map<String, HyperLogLog> sketches = new HashMap<>();
+        for (DonorIdentityView donation : donationRepository.findDonorIdentitiesByTallyBatch(batch)) {
+            addDonation(sketches, donation);
+        }
+        mergeInto(sketches);
+    }
+
+    /**
+     * 프로젝트 고유 기부자 추정치 (스케치가 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getProjectEstimate(Long projectId) {
+        return donorSketchRepository.findEstimate(DonorSketch.projectKey(projectId));
+    }
+
+    /**
+     * 플랫폼 전체 고유 기부자 추정치 (백필이 끝나기 전이면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getGlobalEstimate() {
+        return donorSketchRepository.findBackfilledEstimate(DonorSketch.GLOBAL_KEY);
+    }
+
+    /**
+     * 전체 스케치 백필이 끝나지 않았으면 집계된 완료 기부 전체로 스케치 생성
+     * 전체 스케치 행을 먼저 만든 뒤 스캔하므로, 그 이후 집계되는 기부는 addTallyBatch가 반영하고
+     * 이전에 집계된 기부는 스캔에 포함됨 (겹치는 기부는 중복 반영되어도 무해)
+     * 마지막 병합 후에만 완료 표시를 남기므로, 중간에 실패하거나 레플리카가 내려가면 다음 주기에 처음부터 다시 백필
+     * 백필을 다시 하려면 donor_sketches의 "global" 행을 지우면 됨
+     */
+    @Scheduled(fixedDelayString = "${donation.donor-sketch-backfill-check-ms:3600000}", initialDelay = 30_000)
+    public void backfillIfMissing() {
+        if (isBackfilled()) {
+            return;
+        }
+        if (!schedulerLockService.tryAcquire(BACKFILL_LOCK_NAME, BACKFILL_LOCK_LEASE)) {
+            return;
+        }
+        try {
+            if (!isBackfilled()) {
+                backfill();
+            }
+        } catch (RuntimeException e) {
+            log.warn("고유 기부자 스케치 백필 실패", e);
+        } finally {
+            schedulerLockService.release(BACKFILL_LOCK_NAME);
+        }
+    }
+
+    private boolean isBackfilled() {
+        return donorSketchRepository.existsBySketchKeyAndBackfillCompletedAtIsNotNull(DonorSketch.GLOBAL_KEY);
+    }
+
+    private void backfill() {
+        long startedAt = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status ->
+                donorSketchRepository.ensureExists(DonorSketch.GLOBAL_KEY, new HyperLogLog().toBytes()));
+
+        Map<String, HyperLogLog> sketches = new HashMap<>();
+        long afterId = 0;
+        long scanned = 0;
+        while (true) {
+            List<DonorIdentityView> page = donationRepository.findTalliedDonorIdentitiesAfter(afterId, BACKFILL_SCAN_SIZE);
+            for (DonorIdentityView donation : page) {
+                addDonation(sketches, donation);
+            }
+            scanned += page.size();
+            if (page.size() < BACKFILL_SCAN_SIZE) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getDonationId();
+        }
+
+        List<String> keys = new ArrayList<>(sketches.keySet());
+        for (int from = 0; from < keys.size(); from += BACKFILL_MERGE_CHUNK) {
+            Map<String, HyperLogLog> chunk = new HashMap<>();
+            keys.subList(from, Math.min(from + BACKFILL_MERGE_CHUNK, keys.size()))
+                    .forEach(key -> chunk.put(key, sketches.get(key)));
+            transactionTemplate.executeWithoutResult(status -> mergeInto(chunk));
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                donorSketchRepository.markBackfillCompleted(DonorSketch.GLOBAL_KEY, LocalDateTime.now()));
+
+        HyperLogLog global = sketches.get(DonorSketch.GLOBAL_KEY);
+        log.info("고유 기부자 스케치 백필 완료 - 기부 {}건, 스케치 {}개, 전체 추정 {}명, {}ms",
+                scanned, sketches.size(), global != null ? global.estimate() : 0,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 기부 한 건을 해당 프로젝트 스케치와 전체 스케치에 추가
+     */
+    private void addDonation(Map<String, HyperLogLog> sketches, DonorIdentityView donation) {
+        String donorKey = donorKey(donation);
+        sketches.computeIfAbsent(DonorSketch.projectKey(donation.getProjectId()), key -> new HyperLogLog())
+                .add(donorKey);
+        sketches.computeIfAbsent(DonorSketch.GLOBAL_KEY, key -> new HyperLogLog())
+                .add(donorKey);
+    }
+
+    /**
+     * 메모리 스케치를 DB 스케치에 병합
+     * 프로젝트 스케치 행은 키 순서대로 생성/잠금, 전체 스케치는 백필로 생성된 경우에만 병합
+     */
+    private void mergeInto(Map<String, HyperLogLog> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+        byte[] empty = new HyperLogLog().toBytes();
+        sketches.keySet().stream()
+                .filter(key -> !DonorSketch.GLOBAL_KEY.equals(key))
+                .sorted()
+                .forEach(key -> donorSketchRepository.ensureExists(key, empty));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (DonorSketch row : donorSketchRepository.findAllForUpdate(sketches.keySet())) {
+            HyperLogLog merged = HyperLogLog.fromBytes(row.getRegisters());
+            merged.merge(sketches.get(row.getSketchKey()));
+            row.setRegisters(merged.toBytes());
+            row.setEstimate(merged.estimate());
+            row.setUpdatedAt(now);
+        }
+    }
+
+    /**
+     * 기부자 키: 회원 ID → 이메일(소문자) → 전화번호(숫자만) 순
+     * 연락처 없는 비회원 기부는 구분할 방법이 없어 기부 한 건을 한 명으로 봄
+     */
+    static String donorKey(DonorIdentityView donation) {
+        if (donation.getUserId() != null) {
+            return "u:" + donation.getUserId();
+        }
+        String email = donation.getDonorEmail();
+        if (email != null && !email.isBlank()) {
+            return "e:" + email.trim().toLowerCase(Locale.ROOT);
+        }
+        String phone = donation.getDonorPhone() != null ? donation.getDonorPhone().replaceAll("\\D", "") : "";
+        if (!phone.isEmpty()) {
+            return "p:" + phone;
+        }
+        return "d:" + donation.getDonationId();
+    }
+}
@@ -0,0 +1,158 @@
+package com.wenect.donation_paltform.domain.donation.service;
+
+import com.wenect.donation_paltform.domain.donation.entity.Donation;
+import com.wenect.donation_paltform.domain.donation.repository.DonationRepository;
+import com.wenect.donation_paltform.domain.payment.dto.KakaoPayOrderResponse;
+import com.wenect.donation_paltform.domain.payment.exception.PaymentGatewayException;
+import com.wenect.donation_paltform.domain.payment.exception.PaymentGatewayUnavailableException;
+import com.wenect.donation_paltform.domain.payment.service.KakaoPayService;
+import com.wenect.donation_paltform.global.lock.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 방치된 결제 대기(PENDING) 기부 정리
+ *
+ * 결제 준비만 하고 끝내지 않은 기부를 유효 시간(기본 60분)이 지나면 EXPIRED로 변경
+ * - 한 번에 CHUNK_SIZE건씩 별도 트랜잭션으로 처리해 잠금을 짧게 유지
+ * - 레플리카 중 잠금을 얻은 한 곳에서만 실행 (SchedulerLockService)
+ * - 카카오페이 결제 가능 시간(15분)보다 유효 시간이 길어야 하며,
+ *   만료 뒤 늦게 승인 콜백이 와도 approveDonation은 그대로 COMPLETED 처리
+ * - tid를 받은 기부는 승인 응답만 못 받고 PG에서는 결제되었을 수 있으므로
+ *   주문 조회로 결제 완료면 COMPLETED, 아니면 EXPIRED로 변경
+ */
+@Slf4j
+@Component
+public class PendingDonationReaper {
+
+    private static final String LOCK_NAME = "pendingDonationReaper";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+    private static final int CHUNK_SIZE = 500;
+    // 한 번 실행에서 처리할 최대 청크 수 (잠금 lease 안에 끝나도록)
+    private static final int MAX_CHUNKS_PER_RUN = 200;
+    // 한 번 실행에서 주문 조회할 최대 기부 수 (PG 호출이라 청크보다 작게)
+    private static final int MAX_RECONCILE_PER_RUN = 100;
+
+    private final DonationRepository donationRepository;
+    private final DonationService donationService;
+    private final KakaoPayService kakaoPayService;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration pendingTtl;
+
+    private final Counter expiredCounter;
+    private final Counter reconciledCounter;
+    private final Timer runTimer;
+
+    public PendingDonationReaper(DonationRepository donationRepository,
+                                 DonationService donationService,
+                                 KakaoPayService kakaoPayService,
+                                 SchedulerLockService schedulerLockService,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${donation.pending-ttl-minutes:60}") long pendingTtlMinutes) {
+        this.donationRepository = donationRepository;
+        this.donationService = donationService;
+        this.kakaoPayService = kakaoPayService;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.pendingTtl = Duration.ofMinutes(pendingTtlMinutes);
+        this.expiredCounter = Counter.builder("donation.pending.expired")
+                .description("만료 처리된 결제 대기 기부 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("donation.pending.reconciled")
+                .description("주문 조회로 결제 완료 확인된 결제 대기 기부 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("donation.pending.reaper")
+                .description("결제 대기 기부 정리 작업 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${donation.pending-reaper-interval-ms:300000}", initialDelay = 60_000)
+    public void reap() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+        try {
+            runTimer.record(() -> {
+                expireInChunks();
+                reconcileWithGateway();
+            });
+        } catch (RuntimeException e) {
+            log.warn("결제 대기 기부 정리 실패", e);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void expireInChunks() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(pendingTtl);
+        long total = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer expired = transactionTemplate.execute(
+                    status -> donationRepository.expirePendingBefore(cutoff, CHUNK_SIZE));
+            int count = expired != null ? expired : 0;
+            total += count;
+            expiredCounter.increment(count);
+            if (count < CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("결제 대기 기부 만료 처리 - {}건 (기준: {} 이전 생성)", total, cutoff);
+        }
+    }
+
+    /**
+     * tid를 받은 채 남은 기부를 카카오페이 주문 조회로 정리
+     * PG 오류/타임아웃이면 다음 실행에 다시 확인하고, 서킷이 열려 있으면 이번 실행은 중단
+     */
+    private void reconcileWithGateway() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(pendingTtl);
+        List<Donation> candidates = donationRepository.findPendingWithTidBefore(cutoff, MAX_RECONCILE_PER_RUN);
+        int completed = 0;
+        int expired = 0;
+        for (Donation donation : candidates) {
+            KakaoPayOrderResponse order;
+            try {
+                order = kakaoPayService.getOrder(donation.getPaymentTid());
+            } catch (IllegalArgumentException e) {
+                // PG가 모르는 tid (결제 준비 이후 진행되지 않음)
+                order = null;
+            } catch (PaymentGatewayException e) {
+                log.warn("결제 대기 기부 주문 조회 실패, 다음 실행에 재시도 - orderId: {}", donation.getOrderId());
+                continue;
+            } catch (PaymentGatewayUnavailableException e) {
+                log.warn("카카오페이 호출 불가로 주문 조회 중단 - {}", e.getMessage());
+                break;
+            }
+
+            if (order != null && order.isPaid()) {
+                donationService.approveDonation(donation.getOrderId(), donation.getPaymentTid(),
+                        order.getApprovedAid(), order.getPayment_method_type());
+                reconciledCounter.increment();
+                completed++;
+            } else {
+                Integer count = transactionTemplate.execute(
+                        status -> donationRepository.expirePendingById(donation.getDonationId()));
+                if (count != null && count > 0) {
+                    expiredCounter.increment();
+                    expired++;
+                }
+            }
+        }
+        if (completed > 0 || expired > 0) {
+            log.info("결제 대기 기부 주문 조회 정리 - 완료 {}건, 만료 {}건", completed, expired);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.wenect.donation_paltform.domain.donation.service;
+
+import com.wenect.donation_paltform.domain.donation.dto.StatsRecomputeReport;
+import com.wenect.donation_paltform.domain.donation.repository.DonationRepository;
+import com.wenect.donation_paltform.domain.project.dto.ProjectDonationStatsView;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
+import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.global.lock.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 모금 통계(모금액/기부자 수) 재계산
+ *
+ * 집계된 완료 기부(donations)를 SQL GROUP BY로 합산해 projects의 저장값과 비교하고, 다른 행만 갱신
+ * - 프로젝트 ID 구간(CHUNK_SIZE) 단위로 나눠 여러 스레드에서 동시에 처리
+ * - 구간마다 프로젝트 행을 먼저 잠근 뒤 집계하므로 DonationTallyService의 반영과 섞이지 않음
+ * - 매일 새벽 한 레플리카에서 전체 재계산 (SchedulerLockService)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsRecomputeService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int PARALLELISM = 4;
+    private static final int MAX_REPORTED_DRIFTS = 100;
+    private static final String LOCK_NAME = "projectStatsRecompute";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(30);
+
+    private final ProjectRepository projectRepository;
+    private final DonationRepository donationRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 야간 전체 재계산
+     */
+    @Scheduled(cron = "${donation.stats-recompute-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void recomputeNightly() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+        try {
+            recomputeAll();
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 통계 전체 재계산 실패", e);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * 전체 프로젝트 재계산
+     */
+    public StatsRecomputeReport recomputeAll() {
+        long startedAt = System.currentTimeMillis();
+        long maxProjectId = projectRepository.findMaxProjectId();
+
+        List<ChunkResult> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            List<Future<ChunkResult>> futures = new ArrayList<>();
+            for (long fromId = 1; fromId <= maxProjectId; fromId += CHUNK_SIZE) {
+                long from = fromId;
+                long to = Math.min(fromId + CHUNK_SIZE - 1, maxProjectId);
+                futures.add(executor.submit(() -> recomputeChunk(from, to)));
+            }
+            for (Future<ChunkResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("프로젝트 통계 재계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("프로젝트 통계 재계산 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<StatsRecomputeReport.Drift> drifts = results.stream()
+                .flatMap(result -> result.drifts().stream())
+                .toList();
+        StatsRecomputeReport report = StatsRecomputeReport.builder()
+                .scannedProjects(results.stream().mapToInt(ChunkResult::scanned).sum())
+                .changedProjects(drifts.size())
+                .totalAmountDrift(drifts.stream()
+                        .map(drift -> drift.getComputedAmount().subtract(drift.getStoredAmount()))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .drifts(drifts.stream().limit(MAX_REPORTED_DRIFTS).toList())
+                .build();
+
+        log.info("프로젝트 통계 전체 재계산 완료 - 확인: {}개, 갱신: {}개, 모금액 차이: {}, {}ms",
+                report.getScannedProjects(), report.getChangedProjects(),
+                report.getTotalAmountDrift(), report.getElapsedMillis());
+        return report;
+    }
+
+    /**
+     * 단일 프로젝트 재계산
+     *
+     * @return 저장값이 달라 갱신했으면 차이 정보, 같으면 null
+     */
+    public StatsRecomputeReport.Drift recomputeProject(Long projectId) {
+        ChunkResult result = recomputeChunk(projectId, projectId);
+        if (result.scanned() == 0) {
+            throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다.");
+        }
+        return result.drifts().isEmpty() ? null : result.drifts().get(0);
+    }
+
+    /**
+     * 프로젝트 ID 구간 하나를 한 트랜잭션으로 재계산
+     */
+    private ChunkResult recomputeChunk(long fromId, long toId) {
+        return transactionTemplate.execute(status -> {
+            // 1. 저장값 조회 + 행 잠금 (집계 반영 대기) → 2. 잠금 이후 시점으로 기부 합계 집계
+            List<ProjectDonationStatsView> stored = projectRepository.lockDonationStatsBetween(fromId, toId);
+            if (stored.isEmpty()) {
+                return new ChunkResult(0, List.of());
+            }
+            Map<Long, ProjectDonationStatsView> computed = donationRepository.sumTalliedByProjectIdBetween(fromId, toId)
+                    .stream()
+                    .collect(Collectors.toMap(ProjectDonationStatsView::getProjectId, Function.identity()));
+
+            List<StatsRecomputeReport.Drift> drifts = new ArrayList<>();
+            for (ProjectDonationStatsView project : stored) {
+                ProjectDonationStatsView totals = computed.get(project.getProjectId());
+                BigDecimal computedAmount = totals != null ? totals.getTotalAmount() : BigDecimal.ZERO;
+                long computedCount = totals != null ? totals.getDonorCount() : 0L;
+                BigDecimal storedAmount = project.getTotalAmount() != null ? project.getTotalAmount() : BigDecimal.ZERO;
+                long storedCount = project.getDonorCount() != null ? project.getDonorCount() : 0L;
+
+                if (storedAmount.compareTo(computedAmount) == 0 && storedCount == computedCount) {
+                    continue;
+                }
+                projectRepository.updateDonationStats(project.getProjectId(), computedAmount, (int) computedCount);
+                eventPublisher.publishEvent(ProjectChangedEvent.donationStatsChanged(project.getProjectId()));
+                drifts.add(new StatsRecomputeReport.Drift(
+                        project.getProjectId(), storedAmount, computedAmount, storedCount, computedCount));
+            }
+            return new ChunkResult(stored.size(), drifts);
+        });
+    }
+
+    private record ChunkResult(int scanned, List<StatsRecomputeReport.Drift> drifts) {
+    }
+}
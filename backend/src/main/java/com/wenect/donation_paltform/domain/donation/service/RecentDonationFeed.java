@@ -0,0 +1,236 @@
+package com.wenect.donation_paltform.domain.donation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wenect.donation_paltform.domain.donation.dto.RecentDonationResponse;
+import com.wenect.donation_paltform.domain.donation.entity.Donation;
+import com.wenect.donation_paltform.domain.donation.event.DonationFeedEvent;
+import com.wenect.donation_paltform.domain.donation.repository.DonationRepository;
+import com.wenect.donation_paltform.domain.project.dto.ProjectTitleDto;
+import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import com.wenect.donation_paltform.global.cluster.RemoteClusterEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 완료 기부 피드 (메모리 링 버퍼 + SSE)
+ *
+ * 홈페이지의 "실시간 기부 현황"을 DB 조회 없이 제공
+ * - 시작 시 최근 완료 기부로 채우고, 이후 approveDonation 커밋마다 한 건씩 추가 (가장 오래된 항목을 덮어씀)
+ * - 다른 레플리카에서 승인된 기부는 ClusterEventBus로 받아 같은 버퍼에 추가 (donationId로 중복 제거)
+ * - 구독 중인 SSE 클라이언트에는 새 기부를 바로 전송, 전송은 별도 스레드 한 개에서 처리해 승인 요청을 늦추지 않음
+ */
+@Slf4j
+@Component
+public class RecentDonationFeed {
+
+    private static final String EVENT_TYPE = "DONATION_FEED";
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private static final Comparator<RecentDonationResponse> NEWEST_FIRST = Comparator
+            .comparing(RecentDonationResponse::getTimestamp, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(RecentDonationResponse::getDonationId, Comparator.reverseOrder());
+
+    private final DonationRepository donationRepository;
+    private final ProjectRepository projectRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+
+    // 링 버퍼 (ring[next]가 다음에 덮어쓸 자리)
+    private final RecentDonationResponse[] ring;
+    private int next;
+    private int size;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "donation-feed-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RecentDonationFeed(DonationRepository donationRepository,
+                              ProjectRepository projectRepository,
+                              ClusterEventBus clusterEventBus,
+                              ObjectMapper objectMapper,
+                              @Value("${donation.recent-feed.capacity:50}") int capacity,
+                              @Value("${donation.recent-feed.max-subscribers:2000}") int maxSubscribers) {
+        this.donationRepository = donationRepository;
+        this.projectRepository = projectRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.ring = new RecentDonationResponse[Math.max(1, capacity)];
+    }
+
+    /**
+     * 최근 완료 기부로 버퍼 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            List<Donation> donations = donationRepository.findByStatusOrderByCreatedAtDesc(
+                    Donation.DonationStatus.COMPLETED, PageRequest.of(0, ring.length));
+            List<Long> projectIds = donations.stream().map(Donation::getProjectId).distinct().toList();
+            Map<Long, String> titles = projectIds.isEmpty() ? Map.of() : projectRepository.findTitlesByIds(projectIds)
+                    .stream()
+                    .collect(Collectors.toMap(ProjectTitleDto::getProjectId, ProjectTitleDto::getTitle));
+
+            // 오래된 것부터 넣어야 최신 항목이 버퍼에 남음
+            for (int i = donations.size() - 1; i >= 0; i--) {
+                Donation donation = donations.get(i);
+                append(toEntry(donation, titles.get(donation.getProjectId())));
+            }
+            log.info("최근 기부 피드 초기화 - {}건", donations.size());
+        } catch (RuntimeException e) {
+            log.warn("최근 기부 피드 초기화 실패 - 새 기부부터 채워짐", e);
+        }
+    }
+
+    /**
+     * 완료 기부를 피드 항목으로 변환
+     */
+    public static RecentDonationResponse toEntry(Donation donation, String projectTitle) {
+        return RecentDonationResponse.builder()
+                .donationId(donation.getDonationId())
+                .projectId(donation.getProjectId())
+                .projectTitle(projectTitle)
+                .donorName(Boolean.TRUE.equals(donation.getIsAnonymous()) ? "익명" : donation.getDonorName())
+                .amount(donation.getAmount())
+                .timestamp(donation.getApprovedAt() != null ? donation.getApprovedAt() : donation.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 최근 기부 목록 (최신순, 최대 버퍼 크기)
+     */
+    public List<RecentDonationResponse> getRecent(int limit) {
+        List<RecentDonationResponse> snapshot = new ArrayList<>(ring.length);
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                snapshot.add(ring[i]);
+            }
+        }
+        snapshot.sort(NEWEST_FIRST);
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    /**
+     * SSE 구독 - 연결 직후 현재 목록("snapshot"), 이후 새 기부마다 "donation" 이벤트 전송
+     *
+     * @throws IllegalStateException 구독자 수가 상한에 도달한 경우
+     */
+    public SseEmitter subscribe() {
+        if (emitters.size() >= maxSubscribers) {
+            throw new IllegalStateException("실시간 기부 현황 구독자가 많아 연결할 수 없습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        List<RecentDonationResponse> snapshot = getRecent(ring.length);
+        sender.execute(() -> send(emitter, SseEmitter.event().name("snapshot").data(snapshot)));
+        return emitter;
+    }
+
+    /**
+     * 로컬 승인 기부 반영 (커밋 이후) + 다른 인스턴스로 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationCompleted(DonationFeedEvent event) {
+        publishLocally(event.getDonation());
+        try {
+            clusterEventBus.publish(EVENT_TYPE, objectMapper.writeValueAsString(event.getDonation()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 다른 인스턴스의 피드는 다음 기부나 재시작 시 채워지므로 요청은 실패시키지 않음
+            log.warn("최근 기부 피드 전달 실패 - donationId: {}", event.getDonation().getDonationId(), e);
+        }
+    }
+
+    @EventListener
+    public void onRemoteEvent(RemoteClusterEvent event) {
+        if (!EVENT_TYPE.equals(event.getEventType())) {
+            return;
+        }
+        try {
+            publishLocally(objectMapper.readValue(event.getPayload(), RecentDonationResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 최근 기부 피드 이벤트 - payload: {}", event.getPayload(), e);
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료 방지 + 끊긴 연결 정리
+     */
+    @Scheduled(fixedDelay = 20_000)
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> emitters.forEach(emitter -> send(emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    // ==================== 내부 ====================
+
+    private void publishLocally(RecentDonationResponse donation) {
+        if (!append(donation) || emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> emitters.forEach(emitter -> send(emitter, SseEmitter.event().name("donation").data(donation))));
+    }
+
+    /**
+     * 버퍼에 추가 (가득 차면 가장 오래 전에 넣은 항목을 덮어씀)
+     *
+     * @return 이미 있는 기부면 false
+     */
+    private synchronized boolean append(RecentDonationResponse donation) {
+        for (int i = 0; i < size; i++) {
+            if (ring[i].getDonationId().equals(donation.getDonationId())) {
+                return false;
+            }
+        }
+        ring[next] = donation;
+        next = (next + 1) % ring.length;
+        size = Math.min(size + 1, ring.length);
+        return true;
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 떠난 연결
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
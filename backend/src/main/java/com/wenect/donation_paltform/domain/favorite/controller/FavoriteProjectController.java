@@ -2,6 +2,7 @@ package com.wenect.donation_paltform.domain.favorite.controller;
 
 import com.wenect.donation_paltform.domain.favorite.dto.FavoriteToggleResponse;
 import com.wenect.donation_paltform.domain.favorite.service.FavoriteProjectService;
+import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
 import com.wenect.donation_paltform.global.common.ApiResponse;
 import com.wenect.donation_paltform.global.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -77,6 +78,30 @@ public class FavoriteProjectController {
         }
     }
 
+    /**
+     * 사용자의 관심 프로젝트 카드 목록 조회 (마이페이지용)
+     */
+    @GetMapping("/projects/details")
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getUserFavoriteProjectDetails(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        try {
+            // JWT에서 userId 추출
+            Long userId = getUserIdFromToken(authHeader);
+
+            List<ProjectResponse> projects = favoriteProjectService.getUserFavoriteProjects(userId);
+
+            return ResponseEntity.ok(ApiResponse.success(projects, "관심 프로젝트 목록 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    ApiResponse.error(e.getMessage(), "INVALID_REQUEST"));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(
+                    ApiResponse.error("관심 프로젝트 조회 중 오류가 발생했습니다", "INTERNAL_ERROR"));
+        }
+    }
+
     /**
      * 관심 프로젝트 여부 확인
      */
@@ -0,0 +1,17 @@
+package com.wenect.donation_paltform.domain.favorite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 관심 프로젝트 등록 이벤트 (해제는 발행하지 않음)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FavoriteAddedEvent {
+
+    private final Long userId;
+    private final Long projectId;
+}
@@ -2,6 +2,7 @@ package com.wenect.donation_paltform.domain.favorite.repository;
 
 import com.wenect.donation_paltform.domain.favorite.entity.FavoriteProject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -41,11 +42,9 @@ public interface FavoriteProjectRepository extends JpaRepository<FavoriteProject
     Long countByProjectId(@Param("projectId") Long projectId);
 
     /**
-     * 관심 등록 수가 많은 프로젝트 ID 목록 조회
+     * 사용자의 관심 프로젝트 삭제 (삭제된 행 수 반환)
      */
-    @Query("SELECT f.project.projectId " +
-            "FROM FavoriteProject f " +
-            "GROUP BY f.project.projectId " +
-            "ORDER BY COUNT(f) DESC")
-    List<Long> findTopProjectIdsByFavoriteCount();
+    @Modifying
+    @Query("DELETE FROM FavoriteProject f WHERE f.user.userId = :userId AND f.project.projectId = :projectId")
+    int deleteByUserIdAndProjectId(@Param("userId") Long userId, @Param("projectId") Long projectId);
 }
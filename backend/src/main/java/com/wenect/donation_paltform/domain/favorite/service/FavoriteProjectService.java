@@ -1,17 +1,21 @@
 package com.wenect.donation_paltform.domain.favorite.service;
 
 import com.wenect.donation_paltform.domain.favorite.entity.FavoriteProject;
+import com.wenect.donation_paltform.domain.favorite.event.FavoriteAddedEvent;
 import com.wenect.donation_paltform.domain.favorite.repository.FavoriteProjectRepository;
+import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
 import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
 import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.domain.project.service.ProjectResponseAssembler;
 import com.wenect.donation_paltform.domain.auth.entity.User;
 import com.wenect.donation_paltform.domain.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 관심 프로젝트 서비스
@@ -24,9 +28,12 @@ public class FavoriteProjectService {
     private final FavoriteProjectRepository favoriteProjectRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectResponseAssembler projectResponseAssembler;
 
     /**
      * 관심 프로젝트 토글 (있으면 삭제, 없으면 추가)
+     * projects.favorite_count도 같은 트랜잭션에서 원자적으로 증감
      */
     @Transactional
     public boolean toggleFavorite(Long userId, Long projectId) {
@@ -38,17 +45,21 @@ public class FavoriteProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로젝트입니다"));
 
-        // 이미 관심 등록되어 있으면 삭제
-        Optional<FavoriteProject> existing = favoriteProjectRepository
-                .findByUser_UserIdAndProject_ProjectId(userId, projectId);
+        // 인기 프로젝트 캐시 등에 변경 알림 (커밋 이후 처리)
+        eventPublisher.publishEvent(ProjectChangedEvent.favoriteChanged(projectId));
 
-        if (existing.isPresent()) {
-            favoriteProjectRepository.delete(existing.get());
+        // 이미 관심 등록되어 있으면 삭제 (실제로 삭제된 경우에만 감소)
+        if (favoriteProjectRepository.existsByUser_UserIdAndProject_ProjectId(userId, projectId)) {
+            if (favoriteProjectRepository.deleteByUserIdAndProjectId(userId, projectId) > 0) {
+                projectRepository.addFavoriteCount(projectId, -1);
+            }
             return false; // 삭제됨
         } else {
-            // 관심 등록
+            // 관심 등록 (동시 중복 등록은 UK_favorite_user_project 위반으로 롤백되어 증가하지 않음)
             FavoriteProject favorite = FavoriteProject.create(user, project);
-            favoriteProjectRepository.save(favorite);
+            favoriteProjectRepository.saveAndFlush(favorite);
+            projectRepository.addFavoriteCount(projectId, 1);
+            eventPublisher.publishEvent(new FavoriteAddedEvent(userId, projectId));
             return true; // 추가됨
         }
     }
@@ -65,6 +76,18 @@ public class FavoriteProjectService {
                 .toList();
     }
 
+    /**
+     * 사용자의 관심 프로젝트 카드 목록 조회 (최신 등록순)
+     * 이미지/기관명은 목록 전체에 대해 한 번에 조회
+     */
+    public List<ProjectResponse> getUserFavoriteProjects(Long userId) {
+        List<Project> projects = favoriteProjectRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(FavoriteProject::getProject)
+                .toList();
+
+        return projectResponseAssembler.toResponses(projects);
+    }
+
     /**
      * 관심 프로젝트 여부 확인
      */
@@ -78,16 +101,4 @@ public class FavoriteProjectService {
     public Long getFavoriteCount(Long projectId) {
         return favoriteProjectRepository.countByProjectId(projectId);
     }
-
-    /**
-     * 관심 등록 수 상위 프로젝트 ID 목록 조회
-     */
-    public List<Long> getTopProjectIdsByFavoriteCount(int limit) {
-        List<Long> projectIds = favoriteProjectRepository.findTopProjectIdsByFavoriteCount();
-
-        // limit만큼만 반환
-        return projectIds.stream()
-                .limit(limit)
-                .toList();
-    }
 }
@@ -1,15 +1,23 @@
 package com.wenect.donation_paltform.domain.notification.controller;
 
+import com.wenect.donation_paltform.domain.notification.dto.NotificationBulkResponse;
 import com.wenect.donation_paltform.domain.notification.dto.NotificationResponse;
 import com.wenect.donation_paltform.domain.notification.dto.UnreadCountResponse;
+import com.wenect.donation_paltform.domain.notification.service.NotificationPushService;
 import com.wenect.donation_paltform.domain.notification.service.NotificationService;
+import com.wenect.donation_paltform.domain.notification.service.NotificationStreamTicketService;
+import com.wenect.donation_paltform.global.common.PageResponse;
 import com.wenect.donation_paltform.global.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 알림 관련 컨트롤러
@@ -22,20 +30,31 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
+    private final NotificationStreamTicketService notificationStreamTicketService;
     private final JwtTokenProvider jwtTokenProvider;
 
     /**
-     * 내 알림 목록 조회
+     * 내 알림 목록 조회 (보관되지 않은 알림, 최신순, 커서 기반 페이지네이션)
      */
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getMyNotifications(
-            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+    public ResponseEntity<?> getMyNotifications(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
         Long userId = getUserIdFromToken(authHeader);
-        log.info("알림 목록 조회 요청 - userId: {}", userId);
+        log.info("알림 목록 조회 요청 - userId: {}, category: {}, unreadOnly: {}", userId, category, unreadOnly);
 
-        List<NotificationResponse> notifications = notificationService.getMyNotifications(userId);
-        return ResponseEntity.ok(notifications);
+        try {
+            PageResponse<NotificationResponse> notifications =
+                    notificationService.getMyNotifications(userId, category, unreadOnly, cursor, size);
+            return ResponseEntity.ok(notifications);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
@@ -52,6 +71,48 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 알림 스트림 연결 티켓 발급 (60초 동안 한 번 사용 가능)
+     */
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<Map<String, String>> issueStreamTicket(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        Long userId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(Map.of("ticket", notificationStreamTicketService.issue(userId)));
+    }
+
+    /**
+     * 새 알림 실시간 수신 (SSE)
+     * EventSource는 헤더를 보낼 수 없어 JWT 대신 /stream-ticket에서 받은 일회용 티켓을 ?ticket=으로 받음
+     * 재연결 시 Last-Event-ID(또는 ?lastEventId=) 이후 알림을 먼저 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(
+            @RequestParam(value = "ticket", required = false) String ticket,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+
+        Long userId;
+        try {
+            userId = notificationStreamTicketService.consume(ticket);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String lastEventId = lastEventIdHeader != null && !lastEventIdHeader.isBlank()
+                ? lastEventIdHeader : lastEventIdParam;
+
+        try {
+            Long afterId = lastEventId == null || lastEventId.isBlank() ? null : Long.valueOf(lastEventId.trim());
+            return ResponseEntity.ok(notificationPushService.subscribe(userId, afterId));
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("알림 스트림 연결 거부 - userId: {}, {}", userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     /**
      * 알림 읽음 처리
      */
@@ -72,17 +133,66 @@ public class NotificationController {
     }
 
     /**
-     * 모든 알림 읽음 처리
+     * 알림 일괄 읽음 처리 (category가 있으면 해당 카테고리만)
      */
     @PutMapping("/read-all")
-    public ResponseEntity<String> markAllAsRead(
-            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+    public ResponseEntity<NotificationBulkResponse> markAllAsRead(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(required = false) String category) {
+
+        Long userId = getUserIdFromToken(authHeader);
+        log.info("알림 일괄 읽음 처리 요청 - userId: {}, category: {}", userId, category);
+
+        int count = notificationService.markAllAsRead(userId, category);
+        return ResponseEntity.ok(NotificationBulkResponse.builder()
+                .message(category == null || category.isBlank()
+                        ? "모든 알림을 읽음으로 표시했습니다." : "해당 카테고리 알림을 읽음으로 표시했습니다.")
+                .count(count)
+                .build());
+    }
+
+    /**
+     * 오래된 읽은 알림 일괄 보관
+     */
+    @PutMapping("/archive")
+    public ResponseEntity<?> archiveOldNotifications(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(defaultValue = "30") int olderThanDays) {
+
+        Long userId = getUserIdFromToken(authHeader);
+        log.info("알림 일괄 보관 요청 - userId: {}, olderThanDays: {}", userId, olderThanDays);
+
+        try {
+            int count = notificationService.archiveOlderThan(userId, olderThanDays);
+            return ResponseEntity.ok(NotificationBulkResponse.builder()
+                    .message(olderThanDays + "일 지난 읽은 알림을 보관했습니다.")
+                    .count(count)
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 선택한 알림 일괄 삭제 (?ids=1,2,3)
+     */
+    @DeleteMapping
+    public ResponseEntity<?> deleteNotifications(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(required = false) List<Long> ids) {
 
         Long userId = getUserIdFromToken(authHeader);
-        log.info("모든 알림 읽음 처리 요청 - userId: {}", userId);
+        log.info("알림 일괄 삭제 요청 - userId: {}, count: {}", userId, ids != null ? ids.size() : 0);
 
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok("모든 알림을 읽음으로 표시했습니다.");
+        try {
+            int count = notificationService.deleteNotifications(userId, ids);
+            return ResponseEntity.ok(NotificationBulkResponse.builder()
+                    .message("알림이 삭제되었습니다.")
+                    .count(count)
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
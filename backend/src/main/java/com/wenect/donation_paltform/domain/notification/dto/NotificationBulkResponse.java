@@ -0,0 +1,18 @@
+package com.wenect.donation_paltform.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 일괄 처리 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBulkResponse {
+    private String message;
+    private int count;
+}
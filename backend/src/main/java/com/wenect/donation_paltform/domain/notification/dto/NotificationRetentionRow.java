@@ -0,0 +1,13 @@
+package com.wenect.donation_paltform.domain.notification.dto;
+
+/**
+ * 보존 기간이 지난 알림 정리에 필요한 컬럼 프로젝션 (메시지/메타데이터 제외)
+ */
+public interface NotificationRetentionRow {
+
+    Long getNotificationId();
+
+    Long getUserId();
+
+    Boolean getIsRead();
+}
@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
  * 알림 엔티티
  */
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_notifications_user_type_source", columnNames = {"user_id", "type", "source_id"})
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,6 +66,13 @@ public class Notification {
     @Column(name = "link", length = 500)
     private String link;
 
+    /**
+     * 알림을 만든 원본 ID (기부 완료 알림은 donation_id, 없으면 null)
+     * 아웃박스 메시지가 다시 전달되어도 같은 알림이 두 번 생기지 않도록 (user_id, type, source_id) 유니크
+     */
+    @Column(name = "source_id")
+    private Long sourceId;
+
     /**
      * 읽음 여부
      */
@@ -0,0 +1,36 @@
+package com.wenect.donation_paltform.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 스트림(SSE) 연결용 일회용 티켓 (notification_stream_tickets)
+ * EventSource는 헤더를 보낼 수 없어 JWT 대신 짧게 유효한 티켓을 쿼리로 전달
+ * (URL이 접근 로그에 남아도 한 번 쓰면 삭제되고 금방 만료됨)
+ */
+@Entity
+@Table(
+        name = "notification_stream_tickets",
+        indexes = {
+                @Index(name = "IDX_notification_stream_tickets_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationStreamTicket {
+
+    @Id
+    @Column(name = "ticket", length = 64)
+    private String ticket;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
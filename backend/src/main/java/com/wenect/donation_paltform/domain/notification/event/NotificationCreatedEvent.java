@@ -0,0 +1,19 @@
+package com.wenect.donation_paltform.domain.notification.event;
+
+import com.wenect.donation_paltform.domain.notification.dto.NotificationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 새로 생성된 알림
+ * NotificationService.createNotification 트랜잭션 안에서 발행하고, NotificationPushService가 커밋 이후 SSE로 전송
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class NotificationCreatedEvent {
+
+    private final Long userId;
+    private final NotificationResponse notification;
+}
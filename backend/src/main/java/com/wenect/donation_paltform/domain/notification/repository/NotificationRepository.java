@@ -1,18 +1,84 @@
 package com.wenect.donation_paltform.domain.notification.repository;
 
+import com.wenect.donation_paltform.domain.notification.dto.NotificationRetentionRow;
 import com.wenect.donation_paltform.domain.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * 특정 사용자의 알림 목록 조회 (최신순)
+     * 알림함 첫 페이지 (보관되지 않은 알림, 최신순)
+     * (user_id, created_at, notification_id) 인덱스를 역방향으로 읽고 size+1건에서 멈춤
+     *
+     * @param category null이면 전체 카테고리
+     * @param unreadOnly true면 읽지 않은 알림만
      */
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.userId = :userId AND n.isArchived = false " +
+            "AND (:category IS NULL OR n.category = :category) " +
+            "AND (:unreadOnly = false OR n.isRead = false) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findInboxFirstPage(@Param("userId") Long userId,
+                                          @Param("category") String category,
+                                          @Param("unreadOnly") boolean unreadOnly,
+                                          Pageable pageable);
+
+    /**
+     * 알림함 다음 페이지 (커서: 이전 페이지 마지막 행의 createdAt, notificationId)
+     */
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.userId = :userId AND n.isArchived = false " +
+            "AND (:category IS NULL OR n.category = :category) " +
+            "AND (:unreadOnly = false OR n.isRead = false) " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findInboxAfter(@Param("userId") Long userId,
+                                      @Param("category") String category,
+                                      @Param("unreadOnly") boolean unreadOnly,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("notificationId") Long notificationId,
+                                      Pageable pageable);
+
+    /**
+     * 특정 ID 이후에 생성된 알림 (SSE 재연결 시 놓친 알림 재전송용, 오래된 순)
+     */
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.userId = :userId AND n.isArchived = false AND n.notificationId > :afterId " +
+            "ORDER BY n.notificationId ASC")
+    List<Notification> findCreatedAfter(@Param("userId") Long userId,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    /**
+     * 사용자의 마지막 알림 ID (없으면 null)
+     */
+    @Query("SELECT MAX(n.notificationId) FROM Notification n WHERE n.userId = :userId")
+    Long findLatestNotificationId(@Param("userId") Long userId);
+
+    /**
+     * 같은 원본으로 만든 알림이 이미 있는지 (아웃박스 중복 전달 확인용)
+     */
+    boolean existsByUserIdAndTypeAndSourceId(Long userId, String type, Long sourceId);
+
+    /**
+     * 읽지 않은 알림이면 읽음으로 변경
+     *
+     * @return 변경했으면 1, 이미 읽었으면 0
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+            "WHERE n.notificationId = :notificationId AND n.isRead = false")
+    int markReadIfUnread(@Param("notificationId") Long notificationId, @Param("readAt") LocalDateTime readAt);
 
     /**
      * 특정 사용자의 읽지 않은 알림 개수
@@ -20,12 +86,88 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     long countByUserIdAndIsReadFalse(Long userId);
 
     /**
-     * 특정 사용자의 읽지 않은 알림 목록
+     * 사용자의 읽지 않은 알림 일괄 읽음 처리 (UPDATE 한 번)
+     *
+     * @param category null이면 전체 카테고리
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+            "WHERE n.userId = :userId AND n.isRead = false " +
+            "AND (:category IS NULL OR n.category = :category)")
+    int markAllRead(@Param("userId") Long userId,
+                    @Param("category") String category,
+                    @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 사용자의 오래된 읽은 알림 일괄 보관 (UPDATE 한 번)
+     * 읽지 않은 알림은 보관하지 않음 (알림함에서 숨겨진 채 읽지 않은 알림 수에 남지 않도록)
+     *
+     * @return 보관으로 바뀐 알림 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isArchived = true " +
+            "WHERE n.userId = :userId AND n.isArchived = false AND n.isRead = true AND n.createdAt < :before")
+    int archiveCreatedBefore(@Param("userId") Long userId, @Param("before") LocalDateTime before);
+
+    /**
+     * 사용자의 선택 알림 중 읽지 않은 알림 삭제
+     * 읽은 알림과 나눠 지워야 삭제된 읽지 않은 알림 수를 정확히 알 수 있음
+     *
+     * @return 삭제된 알림 수
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n " +
+            "WHERE n.userId = :userId AND n.notificationId IN :ids AND n.isRead = false")
+    int deleteUnreadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자의 선택 알림 삭제 (다른 사용자의 알림 ID는 무시)
+     *
+     * @return 삭제된 알림 수
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.userId = :userId AND n.notificationId IN :ids")
+    int deleteByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // ==================== 보존 기간 정리 ====================
+
+    /**
+     * 기준 시각 이전에 생성된 읽은 알림을 보관으로 변경 (오래된 것부터 최대 limit건)
+     * (is_archived, is_read, created_at) 인덱스 범위만 읽으므로 잠그는 행도 최대 limit건
+     */
+    @Modifying
+    @Query(value = "UPDATE notifications SET is_archived = true " +
+            "WHERE is_archived = false AND is_read = true AND created_at < :cutoff " +
+            "ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    int archiveReadBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 기준 시각 이전에 생성된 알림 (오래된 것부터 최대 limit건, created_at 인덱스 범위)
+     * 삭제할 때까지 읽음 상태가 바뀌지 않도록 잠금 (읽지 않은 알림 수를 정확히 줄이기 위해)
+     */
+    @Query(value = "SELECT notification_id AS notificationId, user_id AS userId, is_read AS isRead " +
+            "FROM notifications WHERE created_at < :cutoff ORDER BY created_at LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<NotificationRetentionRow> findRetentionRowsBefore(@Param("cutoff") LocalDateTime cutoff,
+                                                           @Param("limit") int limit);
+
+    /**
+     * 알림을 압축 보관 테이블로 복사 (메시지/링크/메타데이터 제외, 이미 옮긴 행은 무시)
      */
-    List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notification_archive " +
+            "(notification_id, user_id, type, category, title, is_read, created_at, read_at, archived_at) " +
+            "SELECT notification_id, user_id, type, category, title, is_read, created_at, read_at, :archivedAt " +
+            "FROM notifications WHERE notification_id IN :ids",
+            nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
 
     /**
-     * 특정 사용자의 보관되지 않은 알림 목록
+     * 알림 ID로 일괄 삭제 (보존 기간 정리용, 사용자 구분 없음)
      */
-    List<Notification> findByUserIdAndIsArchivedFalseOrderByCreatedAtDesc(Long userId);
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE notification_id IN :ids", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,32 @@
+package com.wenect.donation_paltform.domain.notification.repository;
+
+import com.wenect.donation_paltform.domain.notification.entity.NotificationStreamTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface NotificationStreamTicketRepository extends JpaRepository<NotificationStreamTicket, String> {
+
+    /**
+     * 티켓 사용 처리 (삭제)
+     * 같은 티켓으로 동시에 연결해도 한 요청만 1을 받음
+     *
+     * @return 삭제했으면 1, 이미 사용된 티켓이면 0
+     */
+    @Modifying
+    @Query(value = "DELETE FROM notification_stream_tickets WHERE ticket = :ticket", nativeQuery = true)
+    int consume(@Param("ticket") String ticket);
+
+    /**
+     * 만료된 티켓 정리 (최대 limit건)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM notification_stream_tickets WHERE expires_at < :now LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
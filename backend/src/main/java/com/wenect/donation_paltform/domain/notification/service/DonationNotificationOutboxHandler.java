@@ -0,0 +1,57 @@
+package com.wenect.donation_paltform.domain.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wenect.donation_paltform.domain.donation.event.DonationCompletedEvent;
+import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기부 완료 알림 생성 (아웃박스 핸들러)
+ * 결제 승인 트랜잭션 밖에서 비동기로 처리되며, 비회원 기부는 알림 없이 완료 처리
+ * 같은 메시지가 다시 전달되면 기부 ID로 이미 만든 알림을 확인해 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationNotificationOutboxHandler implements OutboxHandler {
+
+    private final NotificationService notificationService;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return DonationCompletedEvent.OUTBOX_TYPE;
+    }
+
+    @Override
+    public String name() {
+        return "donationNotification";
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        JsonNode event = objectMapper.readTree(payload);
+        if (event.path("userId").isNull() || event.path("userId").isMissingNode()) {
+            return;
+        }
+
+        long userId = event.path("userId").asLong();
+        long donationId = event.path("donationId").asLong();
+        long projectId = event.path("projectId").asLong();
+        String projectTitle = projectRepository.findTitleById(projectId)
+                .orElse("삭제된");
+
+        boolean created = notificationService.createDonationNotification(
+                userId, donationId, projectTitle, projectId, event.path("amount").decimalValue().longValue());
+        if (created) {
+            log.info("기부 완료 알림 생성 - userId: {}, projectId: {}", userId, projectId);
+        } else {
+            log.info("이미 생성된 기부 완료 알림 - userId: {}, donationId: {}", userId, donationId);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.wenect.donation_paltform.domain.notification.service;
+
+import com.wenect.donation_paltform.domain.notification.dto.NotificationResponse;
+import com.wenect.donation_paltform.domain.notification.entity.Notification;
+import com.wenect.donation_paltform.domain.notification.event.NotificationCreatedEvent;
+import com.wenect.donation_paltform.domain.notification.repository.NotificationRepository;
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import com.wenect.donation_paltform.global.cluster.RemoteClusterEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 실시간 전송 (사용자별 SSE)
+ *
+ * 로그인한 탭마다 알림 목록/개수를 주기적으로 조회하지 않도록 새 알림을 연결된 클라이언트에 바로 전송
+ * - 이벤트 ID는 알림 ID, 재연결 시 Last-Event-ID 이후 알림을 다시 보냄 (많으면 "resync"로 다시 조회 요청)
+ * - 연결을 먼저 등록한 뒤 재전송 대상을 조회해 그 사이 커밋된 알림도 놓치지 않고,
+ *   연결별 마지막 전송 ID보다 큰 알림만 보내 재전송과 실시간 전송이 겹쳐도 한 번만 보냄
+ * - 첫 연결은 등록 전에 잡은 마지막 알림 ID를 기준점으로 "connected"를 보내고, 등록까지 사이의 알림은 재전송으로 보냄
+ *   (알림함 조회와 연결 사이에 생긴 알림은 클라이언트가 "connected"를 받으면 목록을 다시 조회해 채움)
+ * - 다른 레플리카에서 생성된 알림은 ClusterEventBus로 "userId:notificationId"만 받아, 해당 사용자 연결이 있을 때만 DB에서 읽음
+ * - 인스턴스당 연결 수와 사용자당 연결 수(탭) 상한, 사용자 상한을 넘으면 가장 오래된 연결을 닫음
+ * - 전송은 별도 스레드 한 개에서 처리해 알림 생성 요청을 늦추지 않음
+ */
+@Slf4j
+@Component
+public class NotificationPushService {
+
+    private static final String EVENT_TYPE = "NOTIFICATION_CREATED";
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    // 재연결 시 다시 보내는 최대 알림 수
+    private static final int REPLAY_LIMIT = 50;
+
+    private final NotificationRepository notificationRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationPushService(NotificationRepository notificationRepository,
+                                   ClusterEventBus clusterEventBus,
+                                   @Value("${notification.push.max-connections:5000}") int maxConnections,
+                                   @Value("${notification.push.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.notificationRepository = notificationRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+    }
+
+    /**
+     * SSE 구독 - lastEventId(첫 연결은 연결 시점의 마지막 알림 ID) 이후 알림을 먼저 보내고, 이후 새 알림마다 "notification" 이벤트 전송
+     *
+     * @param lastEventId 마지막으로 받은 알림 ID (첫 연결은 null)
+     * @throws IllegalStateException 인스턴스 연결 수가 상한에 도달한 경우
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        if (connectionCount.get() >= maxConnections) {
+            throw new IllegalStateException("알림 연결이 많아 연결할 수 없습니다.");
+        }
+
+        // 첫 연결이면 등록 전에 현재 마지막 알림 ID를 기준점으로 잡음 - 등록 후에 잡으면 그 사이 실시간 전송된 알림이
+        // 기준점 이하로 보여 건너뛰게 되므로, 등록 후 기준점 이후 알림을 재전송해 그 사이 알림을 채움
+        Long replayFrom;
+        if (lastEventId == null) {
+            Long latestId = notificationRepository.findLatestNotificationId(userId);
+            replayFrom = latestId != null ? latestId : 0L;
+        } else {
+            replayFrom = lastEventId;
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Connection connection = new Connection(emitter);
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, connection));
+        // 조회보다 먼저 등록 - 조회 이후 커밋된 알림은 실시간 전송으로 받고, 그 전 알림은 조회 결과에 포함됨
+        Connection evicted = register(userId, connection);
+        if (evicted != null) {
+            evicted.emitter.complete();
+        }
+
+        // DB 조회는 요청 스레드에서 (전송 스레드에서 DB를 기다리지 않도록)
+        List<Notification> missed;
+        Long resyncId;
+        try {
+            missed = notificationRepository.findCreatedAfter(userId, replayFrom, PageRequest.of(0, REPLAY_LIMIT + 1));
+            // 놓친 알림이 많으면 목록/개수를 다시 조회하도록 요청하고 마지막 알림부터 이어 받음
+            resyncId = missed.size() > REPLAY_LIMIT ? notificationRepository.findLatestNotificationId(userId) : null;
+        } catch (RuntimeException e) {
+            remove(userId, connection);
+            emitter.completeWithError(e);
+            throw e;
+        }
+
+        sender.execute(() -> {
+            if (resyncId != null) {
+                if (!send(userId, connection, SseEmitter.event().id(String.valueOf(resyncId)).name("resync").data(""))) {
+                    return;
+                }
+                connection.lastSentId = resyncId;
+            } else {
+                // 첫 연결은 기준점을 이벤트 ID로 보내, 이후 재연결 시 그 사이 알림을 받을 수 있게 함
+                if (lastEventId == null
+                        && !send(userId, connection, SseEmitter.event().id(String.valueOf(replayFrom)).name("connected").data(""))) {
+                    return;
+                }
+                connection.lastSentId = replayFrom;
+                for (Notification notification : missed) {
+                    if (!sendNotification(userId, connection, NotificationResponse.from(notification))) {
+                        return;
+                    }
+                }
+            }
+            // 재전송 준비 중에 도착한 실시간 알림 (이미 보낸 ID는 건너뜀)
+            List<NotificationResponse> pending = connection.pending;
+            connection.pending = null;
+            pending.sort(Comparator.comparing(NotificationResponse::getNotificationId));
+            for (NotificationResponse notification : pending) {
+                if (!sendNotification(userId, connection, notification)) {
+                    return;
+                }
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 로컬 생성 알림 전송 (커밋 이후) + 다른 인스턴스로 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        pushLocally(event.getUserId(), event.getNotification());
+        try {
+            clusterEventBus.publish(EVENT_TYPE, event.getUserId() + ":" + event.getNotification().getNotificationId());
+        } catch (RuntimeException e) {
+            // 다른 인스턴스에 연결된 클라이언트는 다음 재연결이나 목록 조회 때 받으므로 요청은 실패시키지 않음
+            log.warn("알림 전송 이벤트 전달 실패 - userId: {}, notificationId: {}",
+                    event.getUserId(), event.getNotification().getNotificationId(), e);
+        }
+    }
+
+    @EventListener
+    public void onRemoteEvent(RemoteClusterEvent event) {
+        if (!EVENT_TYPE.equals(event.getEventType())) {
+            return;
+        }
+        String[] parts = event.getPayload().split(":");
+        Long userId;
+        Long notificationId;
+        try {
+            userId = Long.valueOf(parts[0]);
+            notificationId = Long.valueOf(parts[1]);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("잘못된 알림 전송 이벤트 - payload: {}", event.getPayload());
+            return;
+        }
+        // 이 인스턴스에 연결이 없는 사용자면 DB를 읽지 않음
+        if (!connections.containsKey(userId)) {
+            return;
+        }
+        notificationRepository.findById(notificationId)
+                .ifPresent(notification -> pushLocally(userId, NotificationResponse.from(notification)));
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료 방지 + 끊긴 연결 정리
+     */
+    @Scheduled(fixedDelay = 20_000)
+    public void heartbeat() {
+        if (connections.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> connections.forEach((userId, userConnections) ->
+                userConnections.forEach(connection -> send(userId, connection, SseEmitter.event().comment("ping")))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+    }
+
+    // ==================== 내부 ====================
+
+    private void pushLocally(Long userId, NotificationResponse notification) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> userConnections.forEach(connection -> {
+            if (connection.pending != null) {
+                // 아직 재전송 전 - 재전송이 끝난 뒤 순서대로 보냄
+                connection.pending.add(notification);
+            } else {
+                sendNotification(userId, connection, notification);
+            }
+        }));
+    }
+
+    /**
+     * 마지막으로 보낸 알림보다 새 알림일 때만 전송 (재전송과 실시간 전송 중복 방지)
+     *
+     * @return 전송에 실패해 연결을 닫았으면 false
+     */
+    private boolean sendNotification(Long userId, Connection connection, NotificationResponse notification) {
+        if (notification.getNotificationId() <= connection.lastSentId) {
+            return true;
+        }
+        if (!send(userId, connection, toEvent(notification))) {
+            return false;
+        }
+        connection.lastSentId = notification.getNotificationId();
+        return true;
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(NotificationResponse notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getNotificationId()))
+                .name("notification")
+                .data(notification);
+    }
+
+    /**
+     * 연결 등록
+     *
+     * @return 사용자당 상한을 넘어 밀려난 가장 오래된 연결 (없으면 null)
+     */
+    private Connection register(Long userId, Connection connection) {
+        Connection[] evicted = new Connection[1];
+        connections.compute(userId, (id, userConnections) -> {
+            List<Connection> list = userConnections != null ? userConnections : new CopyOnWriteArrayList<>();
+            if (list.size() >= maxConnectionsPerUser) {
+                evicted[0] = list.remove(0);
+                connectionCount.decrementAndGet();
+            }
+            list.add(connection);
+            connectionCount.incrementAndGet();
+            return list;
+        });
+        return evicted[0];
+    }
+
+    private void remove(Long userId, Connection connection) {
+        connections.computeIfPresent(userId, (id, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * @return 전송에 실패해 연결을 닫았으면 false
+     */
+    private boolean send(Long userId, Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 떠난 연결
+            remove(userId, connection);
+            connection.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * SSE 연결 하나 (lastSentId/pending은 전송 스레드에서만 읽고 씀)
+     */
+    private static final class Connection {
+        private final SseEmitter emitter;
+        // 마지막으로 보낸 알림 ID
+        private long lastSentId;
+        // 재전송 전에 도착한 실시간 알림 (재전송이 끝나면 null)
+        private List<NotificationResponse> pending = new ArrayList<>();
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.wenect.donation_paltform.domain.notification.service;
+
+import com.wenect.donation_paltform.domain.notification.dto.NotificationRetentionRow;
+import com.wenect.donation_paltform.domain.notification.repository.NotificationRepository;
+import com.wenect.donation_paltform.global.lock.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 알림 보존 기간 정리
+ *
+ * notifications 테이블이 계속 커지지 않도록 알림함 조회 대상인 최근 알림만 남김
+ * - 읽은 지 오래된 알림(기본 생성 후 30일)은 보관(is_archived) 처리해 알림함에서 제외
+ * - 보존 기간(기본 180일)이 지난 알림은 압축 보관 테이블(notification_archive)로 옮기거나(mode=archive) 삭제(mode=delete)
+ * - created_at 인덱스 범위를 오래된 순으로 CHUNK_SIZE건씩 별도 트랜잭션으로 처리해 잠금을 짧게 유지
+ * - 삭제된 읽지 않은 알림은 사용자별로 모아 읽지 않은 알림 수 캐시에 반영
+ * - 레플리카 중 잠금을 얻은 한 곳에서만 실행 (SchedulerLockService)
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String LOCK_NAME = "notificationRetention";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 500;
+    // 한 번 실행에서 처리할 단계별 최대 청크 수 (잠금 lease 안에 끝나도록, 남은 행은 다음 실행에서 처리)
+    private static final int MAX_CHUNKS_PER_RUN = 200;
+
+    enum PurgeMode { ARCHIVE, DELETE }
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int archiveReadAfterDays;
+    private final int purgeAfterDays;
+    private final PurgeMode purgeMode;
+
+    private final Counter archivedCounter;
+    private final Counter purgedCounter;
+    private final Timer runTimer;
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    UnreadNotificationCounter unreadNotificationCounter,
+                                    SchedulerLockService schedulerLockService,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.retention.archive-read-after-days:30}") int archiveReadAfterDays,
+                                    @Value("${notification.retention.purge-after-days:180}") int purgeAfterDays,
+                                    @Value("${notification.retention.mode:archive}") String purgeMode) {
+        if (archiveReadAfterDays > 0 && purgeAfterDays > 0 && purgeAfterDays <= archiveReadAfterDays) {
+            throw new IllegalArgumentException("notification.retention.purge-after-days는 archive-read-after-days보다 커야 합니다.");
+        }
+        this.notificationRepository = notificationRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveReadAfterDays = archiveReadAfterDays;
+        this.purgeAfterDays = purgeAfterDays;
+        this.purgeMode = PurgeMode.valueOf(purgeMode.trim().toUpperCase(Locale.ROOT));
+        this.archivedCounter = Counter.builder("notification.retention.archived")
+                .description("보관 처리된 읽은 알림 수")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("notification.retention.purged")
+                .description("보존 기간이 지나 알림 테이블에서 제거된 알림 수")
+                .tag("mode", this.purgeMode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.run")
+                .description("알림 보존 기간 정리 작업 실행 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 0 이하로 설정한 단계는 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${notification.retention.interval-ms:3600000}", initialDelay = 120_000)
+    public void run() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+        try {
+            runTimer.record(() -> {
+                if (archiveReadAfterDays > 0) {
+                    archiveReadInChunks();
+                }
+                if (purgeAfterDays > 0) {
+                    purgeInChunks();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("알림 보존 기간 정리 실패", e);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * 오래된 읽은 알림 보관 처리
+     * 읽지 않은 알림 수는 보관 여부와 무관하게 세므로 캐시는 바뀌지 않음
+     */
+    private void archiveReadInChunks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveReadAfterDays);
+        long total = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer archived = transactionTemplate.execute(
+                    status -> notificationRepository.archiveReadBefore(cutoff, CHUNK_SIZE));
+            int count = archived != null ? archived : 0;
+            total += count;
+            archivedCounter.increment(count);
+            if (count < CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("읽은 알림 보관 처리 - {}건 (기준: {} 이전 생성)", total, cutoff);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 알림을 보관 테이블로 옮기거나 삭제
+     */
+    private void purgeInChunks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(purgeAfterDays);
+        long total = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer purged = transactionTemplate.execute(status -> purgeChunk(cutoff));
+            int count = purged != null ? purged : 0;
+            total += count;
+            purgedCounter.increment(count);
+            if (count < CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("보존 기간 지난 알림 정리 ({}) - {}건 (기준: {} 이전 생성)", purgeMode, total, cutoff);
+        }
+    }
+
+    /**
+     * @return 청크에서 조회한 알림 수 (CHUNK_SIZE보다 작으면 남은 대상 없음)
+     */
+    private int purgeChunk(LocalDateTime cutoff) {
+        List<NotificationRetentionRow> rows = notificationRepository.findRetentionRowsBefore(cutoff, CHUNK_SIZE);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = rows.stream().map(NotificationRetentionRow::getNotificationId).toList();
+        Map<Long, Long> unreadByUser = new HashMap<>();
+        for (NotificationRetentionRow row : rows) {
+            if (!Boolean.TRUE.equals(row.getIsRead())) {
+                unreadByUser.merge(row.getUserId(), 1L, Long::sum);
+            }
+        }
+
+        if (purgeMode == PurgeMode.ARCHIVE) {
+            notificationRepository.copyToArchive(ids, LocalDateTime.now());
+        }
+        notificationRepository.purgeByIds(ids);
+        // 커밋 이후 반영됨
+        unreadByUser.forEach((userId, count) -> unreadNotificationCounter.change(userId, -count));
+        return rows.size();
+    }
+}
@@ -5,14 +5,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wenect.donation_paltform.domain.notification.dto.NotificationResponse;
 import com.wenect.donation_paltform.domain.notification.dto.UnreadCountResponse;
 import com.wenect.donation_paltform.domain.notification.entity.Notification;
+import com.wenect.donation_paltform.domain.notification.event.NotificationCreatedEvent;
 import com.wenect.donation_paltform.domain.notification.repository.NotificationRepository;
+import com.wenect.donation_paltform.global.common.PageResponse;
+import com.wenect.donation_paltform.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,7 +31,12 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_DELETE_SIZE = 500;
 
     /**
      * 알림 생성
@@ -30,6 +45,16 @@ public class NotificationService {
     public Notification createNotification(Long userId, String type, String category,
                                            String title, String message, String link,
                                            Map<String, Object> metadata) {
+        return createNotification(userId, type, category, title, message, link, metadata, null);
+    }
+
+    /**
+     * 원본 ID를 지정한 알림 생성 (같은 사용자/타입/원본 ID 알림은 한 건만 저장됨)
+     */
+    @Transactional
+    public Notification createNotification(Long userId, String type, String category,
+                                           String title, String message, String link,
+                                           Map<String, Object> metadata, Long sourceId) {
         try {
             // 메타데이터를 JSON 문자열로 변환
             String metadataJson = null;
@@ -45,9 +70,13 @@ public class NotificationService {
                     .message(message)
                     .link(link)
                     .metadata(metadataJson)
+                    .sourceId(sourceId)
                     .build();
 
             Notification saved = notificationRepository.save(notification);
+            unreadNotificationCounter.change(userId, 1);
+            // 커밋 이후 연결된 클라이언트에 전송 (NotificationPushService)
+            eventPublisher.publishEvent(new NotificationCreatedEvent(userId, NotificationResponse.from(saved)));
             log.info("알림 생성 완료 - userId: {}, type: {}, notificationId: {}",
                     userId, type, saved.getNotificationId());
 
@@ -60,22 +89,57 @@ public class NotificationService {
     }
 
     /**
-     * 사용자별 알림 목록 조회
+     * 사용자별 알림 목록 조회 (보관되지 않은 알림, 최신순, 커서 기반 페이지네이션)
+     *
+     * @param category 카테고리 필터 (null/빈 값이면 전체)
+     * @param unreadOnly true면 읽지 않은 알림만
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
      */
     @Transactional(readOnly = true)
-    public List<NotificationResponse> getMyNotifications(Long userId) {
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return notifications.stream()
+    public PageResponse<NotificationResponse> getMyNotifications(Long userId, String category, boolean unreadOnly,
+                                                                 String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findInboxFirstPage(userId, categoryFilter, unreadOnly, limit);
+        } else {
+            String[] parts = CursorUtils.decode(cursor, 2);
+            LocalDateTime createdAt;
+            Long notificationId;
+            try {
+                createdAt = LocalDateTime.parse(parts[0]);
+                notificationId = Long.parseLong(parts[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+            }
+            notifications = notificationRepository.findInboxAfter(
+                    userId, categoryFilter, unreadOnly, createdAt, notificationId, limit);
+        }
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<Notification> page = hasNext ? notifications.subList(0, pageSize) : notifications;
+        String nextCursor = null;
+        if (hasNext) {
+            Notification last = page.get(page.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getNotificationId());
+        }
+
+        List<NotificationResponse> content = page.stream()
                 .map(NotificationResponse::from)
                 .collect(Collectors.toList());
+        return PageResponse.ofCursor(content, pageSize, nextCursor);
     }
 
     /**
-     * 읽지 않은 알림 개수 조회
+     * 읽지 않은 알림 개수 조회 (메모리 값, 없을 때만 DB에서 셈)
      */
-    @Transactional(readOnly = true)
     public UnreadCountResponse getUnreadCount(Long userId) {
-        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long count = unreadNotificationCounter.get(userId,
+                () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
         return UnreadCountResponse.builder()
                 .count(count)
                 .build();
@@ -94,27 +158,46 @@ public class NotificationService {
             throw new IllegalArgumentException("알림에 대한 권한이 없습니다.");
         }
 
-        notification.markAsRead();
-        notificationRepository.save(notification);
+        // 읽지 않은 상태일 때만 바꾸는 조건부 UPDATE (두 탭에서 동시에 눌러도 개수는 한 번만 감소)
+        if (notificationRepository.markReadIfUnread(notificationId, LocalDateTime.now()) > 0) {
+            unreadNotificationCounter.change(userId, -1);
+        }
 
         log.info("알림 읽음 처리 - notificationId: {}, userId: {}", notificationId, userId);
     }
 
     /**
-     * 모든 알림 읽음 처리
+     * 알림 일괄 읽음 처리 (UPDATE 한 번, 엔티티를 읽지 않음)
+     *
+     * @param category 카테고리 필터 (null/빈 값이면 전체)
+     * @return 읽음으로 바뀐 알림 수
      */
     @Transactional
-    public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository
-                .findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
+    public int markAllAsRead(Long userId, String category) {
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+        int count = notificationRepository.markAllRead(userId, categoryFilter, LocalDateTime.now());
+        unreadNotificationCounter.change(userId, -count);
 
-        for (Notification notification : unreadNotifications) {
-            notification.markAsRead();
-        }
+        log.info("알림 일괄 읽음 처리 - userId: {}, category: {}, count: {}", userId, categoryFilter, count);
+        return count;
+    }
 
-        notificationRepository.saveAll(unreadNotifications);
+    /**
+     * 오래된 읽은 알림 일괄 보관 (UPDATE 한 번)
+     * 읽은 알림만 보관하므로 읽지 않은 알림 수(개수 캐시)는 바뀌지 않음
+     *
+     * @param days 이 일수보다 오래된 알림을 보관
+     * @return 보관으로 바뀐 알림 수
+     */
+    @Transactional
+    public int archiveOlderThan(Long userId, int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("보관 기준 일수는 0 이상이어야 합니다.");
+        }
+        int count = notificationRepository.archiveCreatedBefore(userId, LocalDateTime.now().minusDays(days));
 
-        log.info("모든 알림 읽음 처리 - userId: {}, count: {}", userId, unreadNotifications.size());
+        log.info("알림 일괄 보관 - userId: {}, days: {}, count: {}", userId, days, count);
+        return count;
     }
 
     /**
@@ -131,15 +214,50 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadNotificationCounter.change(userId, -1);
+        }
 
         log.info("알림 삭제 완료 - notificationId: {}, userId: {}", notificationId, userId);
     }
 
+    /**
+     * 선택한 알림 일괄 삭제 (다른 사용자의 알림 ID는 무시)
+     * 읽지 않은 알림을 먼저 지워 그 수만큼 개수 캐시를 줄임
+     *
+     * @return 삭제된 알림 수
+     */
+    @Transactional
+    public int deleteNotifications(Long userId, List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new IllegalArgumentException("삭제할 알림을 선택해주세요.");
+        }
+        if (notificationIds.size() > MAX_BULK_DELETE_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_DELETE_SIZE + "개까지 삭제할 수 있습니다.");
+        }
+        Set<Long> ids = new HashSet<>(notificationIds);
+
+        int unreadDeleted = notificationRepository.deleteUnreadByIds(userId, ids);
+        int readDeleted = notificationRepository.deleteByIds(userId, ids);
+        unreadNotificationCounter.change(userId, -unreadDeleted);
+
+        log.info("알림 일괄 삭제 - userId: {}, requested: {}, deleted: {}", userId, ids.size(), unreadDeleted + readDeleted);
+        return unreadDeleted + readDeleted;
+    }
+
     /**
      * 기부 완료 알림 생성 (헬퍼 메서드)
+     * 같은 기부의 알림이 이미 있으면 만들지 않음 (아웃박스 at-least-once 전달 대응)
+     *
+     * @return 새로 만들었으면 true, 이미 있으면 false
      */
     @Transactional
-    public void createDonationNotification(Long userId, String projectName, Long projectId, Long amount) {
+    public boolean createDonationNotification(Long userId, Long donationId, String projectName,
+                                              Long projectId, Long amount) {
+        if (notificationRepository.existsByUserIdAndTypeAndSourceId(userId, "donation", donationId)) {
+            return false;
+        }
+
         String title = "기부가 완료되었습니다";
         String message = String.format("%s 프로젝트에 %,d원 기부가 완료되었습니다. 감사합니다!",
                 projectName, amount);
@@ -151,7 +269,9 @@ public class NotificationService {
                 "priority", "normal"
         );
 
-        createNotification(userId, "donation", "donation", title, message, link, metadata);
+        // 동시에 두 번 전달되면 유니크 키 위반으로 한쪽이 실패하고, 재시도 때 위 확인에서 걸러짐
+        createNotification(userId, "donation", "donation", title, message, link, metadata, donationId);
+        return true;
     }
 
     /**
@@ -0,0 +1,81 @@
+package com.wenect.donation_paltform.domain.notification.service;
+
+import com.wenect.donation_paltform.domain.notification.entity.NotificationStreamTicket;
+import com.wenect.donation_paltform.domain.notification.repository.NotificationStreamTicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 알림 스트림 연결 티켓 발급/사용
+ *
+ * 로그인 토큰(JWT)을 URL에 싣지 않도록, 인증된 요청으로 짧게 유효한 일회용 티켓을 받아 스트림 연결에 사용
+ * - 티켓은 DB에 저장하므로 발급받은 레플리카와 연결하는 레플리카가 달라도 됨
+ * - 재연결할 때마다 새 티켓을 받아야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamTicketService {
+
+    private static final Duration TICKET_TTL = Duration.ofSeconds(60);
+    private static final int PURGE_BATCH_SIZE = 5_000;
+
+    private final NotificationStreamTicketRepository ticketRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * 티켓 발급
+     */
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        ticketRepository.save(NotificationStreamTicket.builder()
+                .ticket(ticket)
+                .userId(userId)
+                .expiresAt(LocalDateTime.now().plus(TICKET_TTL))
+                .build());
+        return ticket;
+    }
+
+    /**
+     * 티켓 사용 (한 번만 성공)
+     *
+     * @return 티켓을 발급받은 사용자 ID
+     * @throws IllegalArgumentException 없거나 만료됐거나 이미 사용된 티켓
+     */
+    @Transactional
+    public Long consume(String ticket) {
+        if (ticket == null || ticket.isBlank()) {
+            throw new IllegalArgumentException("스트림 티켓이 필요합니다.");
+        }
+        NotificationStreamTicket found = ticketRepository.findById(ticket)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 스트림 티켓입니다."));
+        if (ticketRepository.consume(ticket) == 0 || found.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("만료되었거나 이미 사용된 스트림 티켓입니다.");
+        }
+        return found.getUserId();
+    }
+
+    /**
+     * 사용되지 않고 만료된 티켓 정리
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 120_000)
+    @Transactional
+    public void purgeExpired() {
+        int deleted = ticketRepository.deleteExpired(LocalDateTime.now(), PURGE_BATCH_SIZE);
+        if (deleted > 0) {
+            log.info("만료된 알림 스트림 티켓 정리 - {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.wenect.donation_paltform.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import com.wenect.donation_paltform.global.cluster.RemoteClusterEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (Caffeine, 인스턴스 메모리)
+ *
+ * 로그인한 탭마다 주기적으로 조회하므로 COUNT 쿼리 대신 메모리 값으로 응답
+ * - 없으면 DB에서 세어 넣고(lazy), 알림 생성/읽음/삭제 시 커밋 이후 증감만 반영
+ * - 변경 트랜잭션이 진행 중인 사용자는 DB 값을 캐시에 넣지 않음 (커밋 전/후 어느 쪽 값인지 알 수 없어 중복 반영 위험)
+ * - 다른 인스턴스에는 사용자 ID만 전달해 해당 항목을 비우고 다음 조회 때 다시 셈
+ * - 항목은 적재 후 TTL(기본 5분)이 지나면 버려져 DB 값으로 다시 보정됨
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final String EVENT_TYPE = "NOTIFICATION_UNREAD";
+    // 사용자별 변경 순번 보관 시간 (DB에서 세는 시간보다 충분히 길게)
+    private static final Duration VERSION_RETENTION = Duration.ofMinutes(1);
+
+    private final Cache<Long, AtomicLong> counts;
+    private final ClusterEventBus clusterEventBus;
+
+    // 변경 트랜잭션이 진행 중인 사용자별 건수
+    private final ConcurrentMap<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    // 변경 순번: 사용자별로 마지막 변경 시작/원격 무효화 순번을 기록 (DB 조회 중 그 사용자의 변경이 있었는지 확인)
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .expireAfterWrite(VERSION_RETENTION)
+            .build();
+
+    public UnreadNotificationCounter(ClusterEventBus clusterEventBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.unread-cache.max-users:100000}") long maxUsers,
+                                     @Value("${notification.unread-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.clusterEventBus = clusterEventBus;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "notificationUnread");
+    }
+
+    /**
+     * 읽지 않은 알림 수 (없으면 loader로 DB에서 셈)
+     */
+    public long get(Long userId, LongSupplier loader) {
+        AtomicLong cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            return cached.get();
+        }
+
+        long start = sequence.get();
+        long loaded = loader.getAsLong();
+        if (!inFlight.containsKey(userId) && !changedSince(userId, start)) {
+            counts.asMap().putIfAbsent(userId, new AtomicLong(loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감 예약 (알림 변경 트랜잭션 안에서 호출)
+     * 커밋되면 증감을 반영하고, 롤백되면 아무것도 바꾸지 않음
+     */
+    public void change(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(userId);
+            apply(userId, delta);
+            return;
+        }
+
+        inFlight.computeIfAbsent(userId, id -> new AtomicInteger()).incrementAndGet();
+        bump(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                inFlight.computeIfPresent(userId, (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+            }
+        });
+    }
+
+    @EventListener
+    public void onRemoteEvent(RemoteClusterEvent event) {
+        if (!EVENT_TYPE.equals(event.getEventType())) {
+            return;
+        }
+        try {
+            Long userId = Long.valueOf(event.getPayload());
+            bump(userId);
+            counts.invalidate(userId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 알림 개수 변경 이벤트 - payload: {}", event.getPayload());
+        }
+    }
+
+    private void bump(Long userId) {
+        versions.put(userId, sequence.incrementAndGet());
+    }
+
+    private boolean changedSince(Long userId, long start) {
+        Long version = versions.getIfPresent(userId);
+        return version != null && version > start;
+    }
+
+    private void apply(Long userId, long delta) {
+        AtomicLong cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            cached.getAndUpdate(count -> Math.max(0, count + delta));
+        }
+        try {
+            clusterEventBus.publish(EVENT_TYPE, String.valueOf(userId));
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 TTL이 지나면 DB 값으로 보정되므로 요청은 실패시키지 않음
+            log.warn("알림 개수 변경 이벤트 전달 실패 - userId: {}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.wenect.donation_paltform.domain.organization.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기관명 프로젝션 (orgId -> orgName)
+ * Organization 엔티티(및 연관된 User) 로딩 없이 기관명만 조회할 때 사용
+ */
+@Getter
+@AllArgsConstructor
+public class OrganizationNameDto {
+
+    private Long orgId;
+    private String orgName;
+}
@@ -6,6 +6,7 @@ import lombok.*;
 
 @Entity
 @Table(name = "organizations")
+@EntityListeners(OrganizationEntityListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +17,8 @@ public class Organization {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long orgId;
 
-    @OneToOne
+    // 기관 조회 시 User까지 함께 로딩하지 않도록 LAZY (user_id만 필요하면 getUser().getUserId()는 프록시에서 바로 반환)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
     
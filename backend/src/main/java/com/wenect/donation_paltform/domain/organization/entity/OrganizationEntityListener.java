@@ -0,0 +1,25 @@
+package com.wenect.donation_paltform.domain.organization.entity;
+
+import com.wenect.donation_paltform.domain.organization.event.OrganizationChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Organization 수정/삭제 감지 (기관명을 복제해 두는 캐시/색인 무효화용)
+ * Hibernate가 SpringBeanContainer로 생성하므로 스프링 빈 주입 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Organization organization) {
+        eventPublisher.publishEvent(OrganizationChangedEvent.changed(organization.getOrgId()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.wenect.donation_paltform.domain.organization.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 기관 정보 변경 이벤트 (OrganizationEntityListener가 수정/삭제 시 발행)
+ * - 기관명을 복제해 두는 컴포넌트(기관명 사전, 프로젝트 응답 캐시, 검색 인덱스)가 이 이벤트로 동기화됨
+ * - 다른 인스턴스에서 발생한 변경은 remote=true로 다시 발행됨 (OrganizationNameResolver)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrganizationChangedEvent {
+
+    private final Long orgId;
+    private final boolean remote;
+
+    public static OrganizationChangedEvent changed(Long orgId) {
+        return new OrganizationChangedEvent(orgId, false);
+    }
+
+    public static OrganizationChangedEvent remote(Long orgId) {
+        return new OrganizationChangedEvent(orgId, true);
+    }
+}
@@ -1,12 +1,22 @@
 package com.wenect.donation_paltform.domain.organization.repository;
 
+import com.wenect.donation_paltform.domain.organization.dto.OrganizationNameDto;
 import com.wenect.donation_paltform.domain.organization.entity.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
 
     // user_id로 기관 정보 조회
     Optional<Organization> findByUser_UserId(Long userId);
-}
\ No newline at end of file
+
+    // 여러 기관의 기관명을 한 번에 조회 (User 로딩 없음)
+    @Query("SELECT new com.wenect.donation_paltform.domain.organization.dto.OrganizationNameDto(o.orgId, o.orgName) " +
+            "FROM Organization o WHERE o.orgId IN :orgIds")
+    List<OrganizationNameDto> findOrgNamesByOrgIdIn(@Param("orgIds") Collection<Long> orgIds);
+}
@@ -0,0 +1,104 @@
+package com.wenect.donation_paltform.domain.organization.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wenect.donation_paltform.domain.organization.dto.OrganizationNameDto;
+import com.wenect.donation_paltform.domain.organization.event.OrganizationChangedEvent;
+import com.wenect.donation_paltform.domain.organization.repository.OrganizationRepository;
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import com.wenect.donation_paltform.global.cluster.RemoteClusterEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * orgId -> 기관명 조회기 (메모리 사전)
+ *
+ * - 캐시에 없는 기관만 모아 IN 쿼리 한 번으로 조회하므로 목록 한 페이지당 최대 1회 쿼리
+ * - Organization 수정/삭제 시 커밋 이후 해당 항목을 지우고, 다른 인스턴스에도 전달
+ * - 다른 인스턴스에서 받은 변경은 remote=true인 OrganizationChangedEvent로 로컬에 다시 발행
+ *   (응답 캐시/검색 인덱스가 같은 이벤트로 갱신되며, 새 기관명을 읽도록 이 리스너가 가장 먼저 실행됨)
+ */
+@Slf4j
+@Component
+public class OrganizationNameResolver {
+
+    private static final String EVENT_TYPE = "ORGANIZATION_CHANGED";
+
+    private final OrganizationRepository organizationRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<Long, String> orgNameCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .recordStats()
+            .build();
+
+    public OrganizationNameResolver(OrganizationRepository organizationRepository,
+                                    ClusterEventBus clusterEventBus,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry) {
+        this.organizationRepository = organizationRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.eventPublisher = eventPublisher;
+        CaffeineCacheMetrics.monitor(meterRegistry, orgNameCache, "organizationName");
+    }
+
+    /**
+     * 여러 기관의 기관명 조회 (없는 기관은 결과에서 빠짐)
+     */
+    public Map<Long, String> getOrgNames(Collection<Long> orgIds) {
+        if (orgIds.isEmpty()) {
+            return Map.of();
+        }
+        return orgNameCache.getAll(orgIds, this::loadOrgNames);
+    }
+
+    private Map<Long, String> loadOrgNames(Set<? extends Long> orgIds) {
+        return organizationRepository.findOrgNamesByOrgIdIn(List.copyOf(orgIds)).stream()
+                .collect(Collectors.toMap(OrganizationNameDto::getOrgId, OrganizationNameDto::getOrgName));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        orgNameCache.invalidate(event.getOrgId());
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            clusterEventBus.publish(EVENT_TYPE, String.valueOf(event.getOrgId()));
+        } catch (RuntimeException e) {
+            log.warn("기관 변경 이벤트 전달 실패 - orgId: {}", event.getOrgId(), e);
+        }
+    }
+
+    @EventListener
+    public void onRemoteEvent(RemoteClusterEvent event) {
+        if (!EVENT_TYPE.equals(event.getEventType())) {
+            return;
+        }
+        Long orgId;
+        try {
+            orgId = Long.valueOf(event.getPayload());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 기관 변경 이벤트 - payload: {}", event.getPayload());
+            return;
+        }
+        eventPublisher.publishEvent(OrganizationChangedEvent.remote(orgId));
+    }
+}
@@ -4,10 +4,14 @@ import com.wenect.donation_paltform.domain.donation.dto.DonationRequest;
 import com.wenect.donation_paltform.domain.donation.entity.Donation;
 import com.wenect.donation_paltform.domain.donation.service.DonationService;
 import com.wenect.donation_paltform.domain.payment.dto.KakaoPayApproveResponse;
+import com.wenect.donation_paltform.domain.payment.dto.KakaoPayOrderResponse;
 import com.wenect.donation_paltform.domain.payment.dto.KakaoPayReadyResponse;
+import com.wenect.donation_paltform.domain.payment.exception.PaymentGatewayException;
+import com.wenect.donation_paltform.domain.payment.exception.PaymentGatewayUnavailableException;
 import com.wenect.donation_paltform.domain.payment.service.KakaoPayService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -78,10 +82,7 @@ public class KakaoPayController {
             if (e.getCause() != null) {
                 log.error("원인: {}", e.getCause().getMessage());
             }
-            return ResponseEntity.badRequest().body(Map.of(
-                    "error", e.getMessage() != null ? e.getMessage() : "알 수 없는 오류",
-                    "type", e.getClass().getSimpleName()
-            ));
+            return errorResponse(e);
         }
     }
 
@@ -122,8 +123,13 @@ public class KakaoPayController {
             String userId = orderId;
 
             // 4. 카카오페이 결제 승인
-            KakaoPayApproveResponse response = kakaoPayService.approvePayment(
-                    tid, pgToken, userId, orderId);
+            KakaoPayApproveResponse response;
+            try {
+                response = kakaoPayService.approvePayment(tid, pgToken, userId, orderId);
+            } catch (PaymentGatewayException e) {
+                // 응답을 못 받았어도 PG에서는 승인되었을 수 있으므로 주문 상태로 확인
+                return reconcileApproval(orderId, tid, e);
+            }
 
             // 5. 기부 내역 업데이트 (COMPLETED 상태로 변경 및 프로젝트 통계 업데이트)
             donationService.approveDonation(
@@ -138,8 +144,54 @@ public class KakaoPayController {
 
         } catch (Exception e) {
             log.error("결제 승인 실패", e);
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            return errorResponse(e);
+        }
+    }
+
+    /**
+     * 승인 응답을 받지 못한 결제를 주문 조회로 확인
+     * 결제 완료면 기부를 완료 처리하고, 확인할 수 없으면 PENDING으로 두어 클라이언트 재시도나
+     * PendingDonationReaper의 주문 조회로 정리되게 함
+     */
+    private ResponseEntity<?> reconcileApproval(String orderId, String tid, PaymentGatewayException approveError) {
+        try {
+            KakaoPayOrderResponse order = kakaoPayService.getOrder(tid);
+            if (order.isPaid()) {
+                donationService.approveDonation(orderId, tid, order.getApprovedAid(), order.getPayment_method_type());
+                log.info("승인 응답 없이 결제 완료 확인 - orderId: {}, tid: {}", orderId, tid);
+                return ResponseEntity.ok(Map.of(
+                        "status", "completed",
+                        "message", "결제가 완료되었습니다.",
+                        "orderId", orderId
+                ));
+            }
+            log.warn("승인 응답 없음, 주문 상태: {} - orderId: {}", order.getStatus(), orderId);
+        } catch (RuntimeException e) {
+            log.warn("승인 결과 확인 실패 - orderId: {}", orderId, e);
+        }
+        return errorResponse(approveError);
+    }
+
+    /**
+     * 실패 원인별 응답 상태
+     * - 400: 잘못된 요청/PG 거절, 503: 동시 호출 한도 초과/서킷 차단
+     * - 504: PG 응답 타임아웃, 502: PG 오류 (클라이언트가 재시도할 수 있는 경우)
+     */
+    private ResponseEntity<Map<String, String>> errorResponse(Exception e) {
+        HttpStatus status;
+        if (e instanceof IllegalArgumentException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else if (e instanceof PaymentGatewayException gatewayError) {
+            status = gatewayError.isTimeout() ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.BAD_GATEWAY;
+        } else if (e instanceof PaymentGatewayUnavailableException) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
+        return ResponseEntity.status(status).body(Map.of(
+                "error", e.getMessage() != null ? e.getMessage() : "알 수 없는 오류",
+                "type", e.getClass().getSimpleName()
+        ));
     }
 
     /**
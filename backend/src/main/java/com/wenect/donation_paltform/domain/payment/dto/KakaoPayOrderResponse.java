@@ -0,0 +1,54 @@
+package com.wenect.donation_paltform.domain.payment.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 카카오페이 주문 조회 응답 DTO (승인 결과를 알 수 없을 때 결제 상태 확인용)
+ */
+@Getter
+@Setter
+public class KakaoPayOrderResponse {
+
+    public static final String STATUS_SUCCESS_PAYMENT = "SUCCESS_PAYMENT";
+
+    private String tid;                     // 결제 고유 번호
+    private String cid;                     // 가맹점 코드
+    private String status;                  // 결제 상태 (READY, SUCCESS_PAYMENT, CANCEL_PAYMENT, FAIL_PAYMENT 등)
+    private String partner_order_id;        // 가맹점 주문번호
+    private String partner_user_id;         // 가맹점 회원 id
+    private String payment_method_type;     // 결제 수단
+    private KakaoPayApproveResponse.Amount amount;  // 결제 금액 정보
+    private List<PaymentActionDetail> payment_action_details;  // 결제/취소 상세
+
+    /**
+     * 결제 승인이 완료된 주문인지
+     */
+    public boolean isPaid() {
+        return STATUS_SUCCESS_PAYMENT.equals(status);
+    }
+
+    /**
+     * 결제 승인 요청 고유 번호 (승인 상세가 없으면 null)
+     */
+    public String getApprovedAid() {
+        if (payment_action_details == null) {
+            return null;
+        }
+        return payment_action_details.stream()
+                .filter(detail -> "PAYMENT".equals(detail.getPayment_action_type()))
+                .map(PaymentActionDetail::getAid)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Getter
+    @Setter
+    public static class PaymentActionDetail {
+        private String aid;                 // 요청 고유 번호
+        private String payment_action_type; // PAYMENT, CANCEL, ISSUED_SID
+        private Integer amount;             // 금액
+    }
+}
@@ -0,0 +1,22 @@
+package com.wenect.donation_paltform.domain.payment.exception;
+
+/**
+ * 카카오페이(PG) 호출 실패 (응답 없음/타임아웃, 5xx 등 PG 쪽 문제)
+ * 요청 자체가 잘못된 경우(4xx)는 IllegalArgumentException으로 구분
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    private final boolean timeout;
+
+    public PaymentGatewayException(String message, boolean timeout, Throwable cause) {
+        super(message, cause);
+        this.timeout = timeout;
+    }
+
+    /**
+     * PG가 요청을 받았는지 알 수 없는 경우 (응답 타임아웃)
+     */
+    public boolean isTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,12 @@
+package com.wenect.donation_paltform.domain.payment.exception;
+
+/**
+ * 카카오페이(PG) 호출을 보내지 않고 거절 (동시 호출 한도 초과, 서킷 브레이커 차단)
+ * 잠시 후 다시 시도하면 되는 경우로, 컨트롤러는 503으로 응답
+ */
+public class PaymentGatewayUnavailableException extends RuntimeException {
+
+    public PaymentGatewayUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,29 +1,63 @@
 package com.wenect.donation_paltform.domain.payment.service;
 
 import com.wenect.donation_paltform.domain.payment.dto.*;
+import com.wenect.donation_paltform.domain.payment.exception.PaymentGatewayException;
+import com.wenect.donation_paltform.domain.payment.exception.PaymentGatewayUnavailableException;
+import com.wenect.donation_paltform.global.config.KakaoPayClientConfig;
 import com.wenect.donation_paltform.global.config.properties.KakaoPayProperties;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.SocketTimeoutException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 카카오페이 결제 서비스
  *
  * 블로그 참고: https://myste-leee.tistory.com/272
  * 중요: MultiValueMap 대신 Map 사용 (블로그 주의사항)
+ *
+ * 호출은 연결 풀/타임아웃이 설정된 RestTemplate로 하고,
+ * 준비/승인별 벌크헤드와 공용 서킷 브레이커를 거침 (KakaoPayClientConfig)
+ *
+ * 실패는 원인별로 구분해 던짐
+ * - IllegalArgumentException: PG가 요청을 거절 (4xx)
+ * - PaymentGatewayUnavailableException: 동시 호출 한도 초과/서킷 차단 (PG에 요청하지 않음)
+ * - PaymentGatewayException: 응답 없음/타임아웃, 5xx (타임아웃이면 PG가 처리했을 수 있으므로 주문 조회로 확인)
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class KakaoPayService {
 
     private final KakaoPayProperties kakaoPayProperties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead readyBulkhead;
+    private final Bulkhead approveBulkhead;
+
+    public KakaoPayService(KakaoPayProperties kakaoPayProperties,
+                           RestTemplate kakaoPayRestTemplate,
+                           CircuitBreakerRegistry circuitBreakerRegistry,
+                           BulkheadRegistry bulkheadRegistry) {
+        this.kakaoPayProperties = kakaoPayProperties;
+        this.restTemplate = kakaoPayRestTemplate;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(KakaoPayClientConfig.CIRCUIT_BREAKER);
+        this.readyBulkhead = bulkheadRegistry.bulkhead(KakaoPayClientConfig.READY_BULKHEAD);
+        this.approveBulkhead = bulkheadRegistry.bulkhead(KakaoPayClientConfig.APPROVE_BULKHEAD);
+    }
 
     /**
      * 1단계: 결제 준비 (Ready)
@@ -57,17 +91,17 @@ public class KakaoPayService {
 
         // RestTemplate으로 API 호출
         try {
-            KakaoPayReadyResponse response = restTemplate.postForObject(
+            KakaoPayReadyResponse response = call(readyBulkhead, () -> restTemplate.postForObject(
                     kakaoPayProperties.getReadyUrl(),
                     entity,
                     KakaoPayReadyResponse.class
-            );
+            ));
 
             log.info("카카오페이 결제 준비 완료 - TID: {}", response.getTid());
             return response;
-        } catch (Exception e) {
+        } catch (RestClientException e) {
             log.error("카카오페이 결제 준비 실패", e);
-            throw new RuntimeException("카카오페이 결제 준비 실패: " + e.getMessage(), e);
+            throw translate("결제 준비", e);
         }
     }
 
@@ -98,17 +132,80 @@ public class KakaoPayService {
 
         // RestTemplate으로 API 호출
         try {
-            KakaoPayApproveResponse response = restTemplate.postForObject(
+            KakaoPayApproveResponse response = call(approveBulkhead, () -> restTemplate.postForObject(
                     kakaoPayProperties.getApproveUrl(),
                     entity,
                     KakaoPayApproveResponse.class
-            );
+            ));
 
             log.info("카카오페이 결제 승인 완료 - AID: {}, 금액: {}", response.getAid(), response.getAmount().getTotal());
             return response;
-        } catch (Exception e) {
-            log.error("카카오페이 결제 승인 실패", e);
-            throw new RuntimeException("카카오페이 결제 승인 실패: " + e.getMessage(), e);
+        } catch (RestClientException e) {
+            log.error("카카오페이 결제 승인 실패 - TID: {}", tid, e);
+            throw translate("결제 승인", e);
+        }
+    }
+
+    /**
+     * 주문 조회 (Order)
+     * 승인 응답을 받지 못했을 때 PG에서 실제로 결제가 완료되었는지 확인
+     */
+    public KakaoPayOrderResponse getOrder(String tid) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", kakaoPayProperties.getCid());
+        parameters.put("tid", tid);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "SECRET_KEY " + kakaoPayProperties.getSecretKey());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<Map<String, String>> entity = new HttpEntity<>(parameters, headers);
+
+        try {
+            KakaoPayOrderResponse response = call(approveBulkhead, () -> restTemplate.postForObject(
+                    kakaoPayProperties.getOrderUrl(),
+                    entity,
+                    KakaoPayOrderResponse.class
+            ));
+
+            log.info("카카오페이 주문 조회 - TID: {}, 상태: {}", tid, response.getStatus());
+            return response;
+        } catch (RestClientException e) {
+            log.warn("카카오페이 주문 조회 실패 - TID: {}", tid, e);
+            throw translate("주문 조회", e);
+        }
+    }
+
+    /**
+     * RestTemplate 예외를 원인별 예외로 변환
+     */
+    private RuntimeException translate(String action, RestClientException e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return new IllegalArgumentException(
+                    "카카오페이 " + action + " 요청이 거절되었습니다: " + clientError.getResponseBodyAsString(), e);
+        }
+        boolean timeout = e instanceof ResourceAccessException && e.getRootCause() instanceof SocketTimeoutException;
+        return new PaymentGatewayException(
+                timeout ? "카카오페이 " + action + " 응답이 지연되고 있습니다."
+                        : "카카오페이 " + action + " 중 결제 서비스 오류가 발생했습니다.",
+                timeout, e);
+    }
+
+    /**
+     * 벌크헤드 → 서킷 브레이커 순으로 감싸 호출
+     * 동시 호출 한도 초과나 차단 상태면 PG에 요청하지 않고 바로 실패
+     */
+    private <T> T call(Bulkhead bulkhead, Supplier<T> request) {
+        Supplier<T> decorated = Bulkhead.decorateSupplier(bulkhead,
+                CircuitBreaker.decorateSupplier(circuitBreaker, request));
+        try {
+            return decorated.get();
+        } catch (BulkheadFullException e) {
+            log.warn("카카오페이 동시 호출 한도 초과 - {}", bulkhead.getName());
+            throw new PaymentGatewayUnavailableException("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (CallNotPermittedException e) {
+            log.warn("카카오페이 서킷 브레이커 차단 중 - state: {}", circuitBreaker.getState());
+            throw new PaymentGatewayUnavailableException("결제 서비스 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", e);
         }
     }
 }
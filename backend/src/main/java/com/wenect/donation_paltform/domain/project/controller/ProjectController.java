@@ -3,7 +3,6 @@ package com.wenect.donation_paltform.domain.project.controller;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wenect.donation_paltform.global.common.ApiResponse;
-import com.wenect.donation_paltform.domain.donation.dto.DonationResponse;
 import com.wenect.donation_paltform.domain.donation.service.DonationService;
 import com.wenect.donation_paltform.domain.project.dto.CreateProjectRequest;
 import com.wenect.donation_paltform.domain.project.dto.DonationOptionDto;
@@ -11,7 +10,9 @@ import com.wenect.donation_paltform.domain.project.dto.DonorResponseDto;
 import com.wenect.donation_paltform.global.common.PageResponse;
 import com.wenect.donation_paltform.domain.project.dto.ProjectDetailResponse;
 import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
+import com.wenect.donation_paltform.domain.project.dto.ProjectSuggestResponse;
 import com.wenect.donation_paltform.domain.project.service.DonationOptionService;
+import com.wenect.donation_paltform.domain.project.service.ProjectResponseCache;
 import com.wenect.donation_paltform.domain.project.service.ProjectService;
 import com.wenect.donation_paltform.global.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class ProjectController {
     private final ProjectService projectService;
     private final DonationService donationService;
     private final DonationOptionService donationOptionService;
+    private final ProjectResponseCache projectResponseCache;
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -107,7 +109,9 @@ public class ProjectController {
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDetailResponse> getProject(@PathVariable("id") Long id) {
         try {
-            ProjectDetailResponse response = projectService.getProjectDetail(id);
+            ProjectDetailResponse response = projectResponseCache.getDetail(
+                    id, () -> projectService.getProjectDetail(id));
+            projectService.recordProjectView(id);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -118,18 +122,45 @@ public class ProjectController {
      * 전체 프로젝트 목록 조회 (검색, 필터링, 정렬 지원)
      *
      * @param category 카테고리 (선택, 예: "아동복지", "환경보호")
-     * @param search 검색 키워드 (선택, 프로젝트 제목에서 검색)
-     * @param sortBy 정렬 기준 (선택, latest/deadline/fundingRate, 기본값: latest)
+     * @param search 검색 키워드 (선택, 제목/설명/사용계획/카테고리/기관명에서 형태소 단위 검색)
+     * @param sortBy 정렬 기준 (선택, latest/deadline/fundingRate/relevance,
+     *               기본값: 검색어가 있으면 relevance, 없으면 latest, relevance는 검색어가 있을 때만 적용)
+     * @param cursor 다음 페이지 커서 (선택, 이전 응답의 nextCursor)
+     * @param size 페이지 크기 (선택, 기본값: 20, 최대 100)
      */
     @GetMapping
     public ResponseEntity<PageResponse<ProjectResponse>> getAllProjects(
             @RequestParam(value = "category", required = false) String category,
             @RequestParam(value = "search", required = false) String search,
-            @RequestParam(value = "sortBy", defaultValue = "latest") String sortBy) {
+            @RequestParam(value = "sortBy", required = false) String sortByParam,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
 
-        List<ProjectResponse> responses = projectService.searchProjects(category, search, sortBy);
-        PageResponse<ProjectResponse> pageResponse = PageResponse.of(responses);
-        return ResponseEntity.ok(pageResponse);
+        String sortBy = sortByParam != null && !sortByParam.isBlank()
+                ? sortByParam
+                : (search != null && !search.isBlank() ? "relevance" : "latest");
+        try {
+            PageResponse<ProjectResponse> pageResponse = projectResponseCache.getList(
+                    category, search, sortBy, cursor, size,
+                    () -> projectService.searchProjects(category, search, sortBy, cursor, size));
+            return ResponseEntity.ok(pageResponse);
+        } catch (IllegalArgumentException e) {
+            // 유효하지 않은 카테고리 또는 커서
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 검색어 자동완성 (검색창 입력 중 호출)
+     *
+     * @param q 입력 중인 검색어 (초성 입력 가능, 예: "ㅇㄹㅇ")
+     * @param limit 최대 개수 (선택, 기본값: 8, 최대 20)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProjectSuggestResponse>> suggestProjects(
+            @RequestParam(value = "q", defaultValue = "") String q,
+            @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        return ResponseEntity.ok(projectService.suggestProjects(q, limit));
     }
 
     /**
@@ -138,33 +169,45 @@ public class ProjectController {
     @GetMapping("/popular")
     public ResponseEntity<List<ProjectResponse>> getPopularProjects(
             @RequestParam(value = "limit", defaultValue = "4") int limit) {
-        List<ProjectResponse> responses = projectService.getPopularProjects(limit);
+        List<ProjectResponse> responses = projectResponseCache.getPopular(
+                limit, () -> projectService.getPopularProjects(limit));
         return ResponseEntity.ok(responses);
     }
 
     /**
-     * 프로젝트 기부자 목록 조회
+     * 트렌딩 프로젝트 조회 (최근 기부/관심 등록/조회 활동 기준, 시간이 지날수록 점수 감소)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<ProjectResponse>> getTrendingProjects(
+            @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        List<ProjectResponse> responses = projectResponseCache.getTrending(
+                limit, () -> projectService.getTrendingProjects(limit));
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 프로젝트 기부자 목록 조회 (완료된 기부, 최신순, 커서 기반 페이지네이션)
+     * 첫 페이지는 캐시 (결제 승인 시 무효화)
+     *
+     * @param showAnonymous false면 익명 기부자 제외
+     * @param cursor 다음 페이지 커서 (선택, 이전 응답의 nextCursor)
+     * @param size 페이지 크기 (선택, 기본값: 20, 최대 100)
      */
     @GetMapping("/{id}/donors")
-    public ResponseEntity<List<DonorResponseDto>> getProjectDonors(
+    public ResponseEntity<PageResponse<DonorResponseDto>> getProjectDonors(
             @PathVariable("id") Long id,
-            @RequestParam(value = "showAnonymous", defaultValue = "true") boolean showAnonymous) {
-        List<DonationResponse> donations = donationService.getDonationsByProjectId(id);
-
-        // showAnonymous가 false면 익명 기부자 제외하고 DonorResponseDto로 변환
-        List<DonorResponseDto> donors = donations.stream()
-                .filter(d -> showAnonymous || !Boolean.TRUE.equals(d.getIsAnonymous()))
-                .map(d -> DonorResponseDto.builder()
-                        .id(d.getDonationId())
-                        .name(Boolean.TRUE.equals(d.getIsAnonymous()) ? "익명" : d.getDonorName())
-                        .amount(d.getAmount())
-                        .date(d.getCreatedAt() != null ? d.getCreatedAt().toString() : "")
-                        .isAnonymous(d.getIsAnonymous())
-                        .message(d.getMessage())
-                        .build())
-                .toList();
-
-        return ResponseEntity.ok(donors);
+            @RequestParam(value = "showAnonymous", defaultValue = "true") boolean showAnonymous,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            PageResponse<DonorResponseDto> donors = (cursor == null || cursor.isBlank())
+                    ? projectResponseCache.getDonorsFirstPage(id, showAnonymous, size,
+                            () -> donationService.getProjectDonors(id, showAnonymous, null, size))
+                    : donationService.getProjectDonors(id, showAnonymous, cursor, size);
+            return ResponseEntity.ok(donors);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -207,7 +250,8 @@ public class ProjectController {
     public ResponseEntity<ApiResponse<List<DonationOptionDto>>> getProjectDonationOptions(
             @PathVariable("projectId") Long projectId) {
         try {
-            List<DonationOptionDto> options = donationOptionService.getActiveOptionsByProjectId(projectId);
+            List<DonationOptionDto> options = projectResponseCache.getOptions(
+                    projectId, () -> donationOptionService.getActiveOptionsByProjectId(projectId));
             return ResponseEntity.ok(ApiResponse.success(options, "기부 옵션 조회 성공"));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -0,0 +1,21 @@
+package com.wenect.donation_paltform.domain.project.dto;
+
+/**
+ * 상세 조회용 첨부 파일 프로젝션 (이미지 + 문서를 UNION ALL로 한 번에 조회)
+ */
+public interface ProjectAttachmentView {
+
+    String KIND_IMAGE = "IMAGE";
+    String KIND_DOCUMENT = "DOCUMENT";
+
+    // IMAGE / DOCUMENT
+    String getKind();
+
+    Long getId();
+
+    String getFilePath();
+
+    String getFileName();
+
+    Long getFileSize();
+}
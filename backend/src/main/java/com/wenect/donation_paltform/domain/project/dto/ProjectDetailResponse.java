@@ -1,10 +1,7 @@
 package com.wenect.donation_paltform.domain.project.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.wenect.donation_paltform.domain.organization.entity.Organization;
 import com.wenect.donation_paltform.domain.project.entity.Project;
-import com.wenect.donation_paltform.domain.project.entity.ProjectDocument;
-import com.wenect.donation_paltform.domain.project.entity.ProjectImage;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -12,7 +9,6 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -40,6 +36,10 @@ public class ProjectDetailResponse {
     @JsonProperty("donors")
     private Integer donorCount;
 
+    // 고유 기부자 수 추정치 (같은 사람의 반복 기부는 한 명, HyperLogLog)
+    @JsonProperty("uniqueDonors")
+    private Long uniqueDonorCount;
+
     @JsonProperty("image")
     private String image; // 대표 이미지
 
@@ -94,63 +94,64 @@ public class ProjectDetailResponse {
     }
 
     /**
-     * Entity들로부터 상세 응답 생성
+     * 상세 조회 프로젝션으로부터 상세 응답 생성
+     *
+     * @param view 프로젝트 + 기관명 + 작성자 ID
+     * @param attachments 이미지(표시 순서) + 문서 목록
+     * @param uniqueDonorCount 고유 기부자 추정치
      */
     public static ProjectDetailResponse from(
-            Project project,
+            ProjectDetailView view,
             String categoryName,
-            Organization organization,
-            List<ProjectImage> projectImages,
-            List<ProjectDocument> projectDocuments) {
+            List<ProjectAttachmentView> attachments,
+            Long uniqueDonorCount) {
+
+        Project project = view.getProject();
 
         // D-day 계산
         long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), project.getEndDate());
 
-        // 대표 이미지 설정
-        String representativeImage = (projectImages != null && !projectImages.isEmpty())
-                ? projectImages.get(0).getFilePath()
-                : "";
-
         // 기관 정보 변환
         OrganizationInfo orgInfo = OrganizationInfo.builder()
-                .organizationId(organization.getOrgId())
-                .name(organization.getOrgName())
+                .organizationId(view.getOrgId())
+                .name(view.getOrgName())
                 .introduction("기관 소개") // TODO: Organization 엔티티에 introduction 필드 추가
                 .websiteUrl(null) // TODO: Organization 엔티티에 websiteUrl 필드 추가
                 .build();
 
-        // 이미지 정보 변환
-        List<ImageInfo> imageInfos = (projectImages != null && !projectImages.isEmpty())
-                ? projectImages.stream()
-                        .map(img -> ImageInfo.builder()
-                                .imageId(img.getImageId())
-                                .imageUrl(img.getFilePath())
-                                .caption(null) // TODO: caption 필드 추가 시 사용
-                                .build())
-                        .collect(Collectors.toList())
-                : new ArrayList<>();
-
-        // 문서 정보 변환
-        List<DocumentInfo> documentInfos = (projectDocuments != null && !projectDocuments.isEmpty())
-                ? projectDocuments.stream()
-                        .map(doc -> DocumentInfo.builder()
-                                .documentId(doc.getDocumentId())
-                                .fileName(doc.getFileName())
-                                .fileUrl(doc.getFilePath())
-                                .fileSize(doc.getFileSize())
-                                .build())
-                        .collect(Collectors.toList())
-                : new ArrayList<>();
+        // 이미지/문서 정보 변환
+        List<ImageInfo> imageInfos = new ArrayList<>();
+        List<DocumentInfo> documentInfos = new ArrayList<>();
+        for (ProjectAttachmentView attachment : attachments) {
+            if (ProjectAttachmentView.KIND_IMAGE.equals(attachment.getKind())) {
+                imageInfos.add(ImageInfo.builder()
+                        .imageId(attachment.getId())
+                        .imageUrl(attachment.getFilePath())
+                        .caption(null) // TODO: caption 필드 추가 시 사용
+                        .build());
+            } else {
+                documentInfos.add(DocumentInfo.builder()
+                        .documentId(attachment.getId())
+                        .fileName(attachment.getFileName())
+                        .fileUrl(attachment.getFilePath())
+                        .fileSize(attachment.getFileSize())
+                        .build());
+            }
+        }
+
+        // 대표 이미지 설정
+        String representativeImage = !imageInfos.isEmpty() ? imageInfos.get(0).getImageUrl() : "";
 
         return ProjectDetailResponse.builder()
                 .projectId(project.getProjectId())
-                .userId(organization.getUser().getUserId()) // 작성자 ID (Organization의 User)
+                .userId(view.getOwnerUserId()) // 작성자 ID (기관의 user_id)
                 .title(project.getTitle())
                 .categoryName(categoryName)
                 .currentAmount(project.getCurrentAmount())
                 .targetAmount(project.getTargetAmount())
                 .dday(daysLeft)
                 .donorCount(project.getDonorCount())
+                .uniqueDonorCount(uniqueDonorCount)
                 .image(representativeImage)
                 .description(project.getDescription())
                 .status(project.getStatus().name())
@@ -0,0 +1,19 @@
+package com.wenect.donation_paltform.domain.project.dto;
+
+import com.wenect.donation_paltform.domain.project.entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상세 조회용 프로젝션 (프로젝트 + 기관명 + 작성자 ID)
+ * Organization/User 엔티티를 로딩하지 않고 한 번의 조인 쿼리로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectDetailView {
+
+    private Project project;
+    private Long orgId;
+    private String orgName;
+    private Long ownerUserId;
+}
@@ -0,0 +1,16 @@
+package com.wenect.donation_paltform.domain.project.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 프로젝트 모금 통계 프로젝션 (프로젝트 ID, 모금액, 기부자 수)
+ * 저장된 값(projects)과 기부 내역 집계값(donations)을 같은 모양으로 읽어 비교
+ */
+public interface ProjectDonationStatsView {
+
+    Long getProjectId();
+
+    BigDecimal getTotalAmount();
+
+    Long getDonorCount();
+}
@@ -0,0 +1,16 @@
+package com.wenect.donation_paltform.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로젝트 이미지 경로 프로젝션 (목록 카드용)
+ * ProjectImage 엔티티 전체 대신 projectId와 filePath만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectImagePathDto {
+
+    private Long projectId;
+    private String filePath;
+}
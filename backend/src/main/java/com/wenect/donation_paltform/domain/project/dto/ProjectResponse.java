@@ -50,12 +50,12 @@ public class ProjectResponse {
     private Long dday; // D-day 계산
 
     @JsonProperty("organization")
-    private String organization; // 기관명 (나중에 JOIN으로 가져올 예정)
+    private String organization; // 기관명
 
     /**
      * Entity -> DTO 변환
      */
-    public static ProjectResponse from(Project project, String categoryName, List<String> imageUrls) {
+    public static ProjectResponse from(Project project, String categoryName, String orgName, List<String> imageUrls) {
         // D-day 계산 (오늘 ~ 종료일)
         long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), project.getEndDate());
 
@@ -82,7 +82,7 @@ public class ProjectResponse {
                 .imageUrls(imageUrls)
                 .image(representativeImage)
                 .dday(daysLeft)
-                .organization("기관명") // TODO: Organization JOIN으로 실제 기관명 가져오기
+                .organization(orgName != null ? orgName : "")
                 .build();
     }
 }
@@ -0,0 +1,19 @@
+package com.wenect.donation_paltform.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSuggestResponse {
+
+    private Long projectId;
+    private String title;
+}
@@ -0,0 +1,15 @@
+package com.wenect.donation_paltform.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로젝트 제목 프로젝션 (자동완성 색인, 최근 기부 피드용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectTitleDto {
+
+    private Long projectId;
+    private String title;
+}
@@ -8,7 +8,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(
+        name = "projects",
+        indexes = {
+                // 목록 조회 키셋 페이지네이션용 복합 인덱스 (정렬 키 + PK 순)
+                @Index(name = "IDX_projects_status_created", columnList = "status, created_at, project_id"),
+                @Index(name = "IDX_projects_status_end_date", columnList = "status, end_date, project_id"),
+                @Index(name = "IDX_projects_status_category_created", columnList = "status, category_id, created_at, project_id"),
+                @Index(name = "IDX_projects_status_category_end_date", columnList = "status, category_id, end_date, project_id"),
+                @Index(name = "IDX_projects_status_funding_rate", columnList = "status, funding_rate, project_id"),
+                @Index(name = "IDX_projects_status_category_funding_rate", columnList = "status, category_id, funding_rate, project_id"),
+                // 인기 프로젝트 (관심 등록 수 DESC)
+                @Index(name = "IDX_projects_status_favorite_count", columnList = "status, favorite_count, project_id"),
+                // 검색 인덱스 주기 동기화용
+                @Index(name = "IDX_projects_updated_at", columnList = "updated_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,6 +59,18 @@ public class Project {
     @Builder.Default
     private Integer donorCount = 0;
 
+    // 관심 등록 수 - FavoriteProjectService.toggleFavorite가 UPDATE ... SET favorite_count = favorite_count ± 1로만 변경
+    // 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "favorite_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer favoriteCount = 0;
+
+    // 모금률 (current_amount / target_amount, 목표 금액이 0 이하면 0) - 모금률순 정렬/커서용
+    // MySQL STORED generated column: current_amount가 바뀔 때 DB가 함께 갱신하므로 애플리케이션에서는 읽기 전용
+    @Column(name = "funding_rate", precision = 12, scale = 4, insertable = false, updatable = false,
+            columnDefinition = "DECIMAL(12,4) AS (IF(target_amount > 0, current_amount / target_amount, 0)) STORED")
+    private BigDecimal fundingRate;
+
     @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
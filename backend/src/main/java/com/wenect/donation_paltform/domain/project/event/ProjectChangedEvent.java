@@ -0,0 +1,54 @@
+package com.wenect.donation_paltform.domain.project.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 프로젝트 변경 도메인 이벤트
+ * - 트랜잭션 안에서 발행하고, 리스너는 커밋 이후(AFTER_COMMIT)에 처리
+ * - 검색 인덱스, 응답 캐시 등 프로젝트 데이터를 복제해 두는 컴포넌트가 이 이벤트로 동기화됨
+ * - 다른 인스턴스에서 발생한 변경은 remote=true로 다시 발행됨 (ProjectChangedEventRelay)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProjectChangedEvent {
+
+    private final Long projectId;
+    private final ChangeType changeType;
+    private final boolean remote;
+
+    public static ProjectChangedEvent created(Long projectId) {
+        return new ProjectChangedEvent(projectId, ChangeType.CREATED, false);
+    }
+
+    public static ProjectChangedEvent deleted(Long projectId) {
+        return new ProjectChangedEvent(projectId, ChangeType.DELETED, false);
+    }
+
+    public static ProjectChangedEvent donationStatsChanged(Long projectId) {
+        return new ProjectChangedEvent(projectId, ChangeType.DONATION_STATS, false);
+    }
+
+    public static ProjectChangedEvent optionsChanged(Long projectId) {
+        return new ProjectChangedEvent(projectId, ChangeType.OPTIONS_CHANGED, false);
+    }
+
+    public static ProjectChangedEvent favoriteChanged(Long projectId) {
+        return new ProjectChangedEvent(projectId, ChangeType.FAVORITE_CHANGED, false);
+    }
+
+    public static ProjectChangedEvent remote(Long projectId, ChangeType changeType) {
+        return new ProjectChangedEvent(projectId, changeType, true);
+    }
+
+    public enum ChangeType {
+        CREATED,          // 프로젝트 등록
+        DELETED,          // 프로젝트 삭제
+        DONATION_STATS,   // 모금액/기부자 수 변경
+        OPTIONS_CHANGED,  // 기부 옵션 변경
+        FAVORITE_CHANGED  // 관심 등록 수 변경
+    }
+}
@@ -0,0 +1,57 @@
+package com.wenect.donation_paltform.domain.project.event;
+
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import com.wenect.donation_paltform.global.cluster.RemoteClusterEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * ProjectChangedEvent를 다른 인스턴스로 전달
+ * - 로컬 이벤트: 커밋 이후 ClusterEventBus로 발행 ("projectId:변경유형")
+ * - 수신 이벤트: remote=true인 ProjectChangedEvent로 로컬에 다시 발행 (다시 전달되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectChangedEventRelay {
+
+    private static final String EVENT_TYPE = "PROJECT_CHANGED";
+
+    private final ClusterEventBus clusterEventBus;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void forward(ProjectChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            clusterEventBus.publish(EVENT_TYPE, event.getProjectId() + ":" + event.getChangeType().name());
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 캐시 TTL/주기 동기화로 복구되므로 요청은 실패시키지 않음
+            log.warn("프로젝트 변경 이벤트 전달 실패 - {}", event, e);
+        }
+    }
+
+    @EventListener
+    public void receive(RemoteClusterEvent event) {
+        if (!EVENT_TYPE.equals(event.getEventType())) {
+            return;
+        }
+        ProjectChangedEvent changed;
+        try {
+            String[] parts = event.getPayload().split(":", 2);
+            changed = ProjectChangedEvent.remote(
+                    Long.valueOf(parts[0]), ProjectChangedEvent.ChangeType.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 프로젝트 변경 이벤트 - payload: {}", event.getPayload(), e);
+            return;
+        }
+        eventPublisher.publishEvent(changed);
+    }
+}
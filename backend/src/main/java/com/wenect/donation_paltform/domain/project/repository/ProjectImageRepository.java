@@ -1,9 +1,13 @@
 package com.wenect.donation_paltform.domain.project.repository;
 
+import com.wenect.donation_paltform.domain.project.dto.ProjectImagePathDto;
 import com.wenect.donation_paltform.domain.project.entity.ProjectImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +16,13 @@ public interface ProjectImageRepository extends JpaRepository<ProjectImage, Long
     // 프로젝트 ID로 이미지 조회
     List<ProjectImage> findByProjectIdOrderByDisplayOrder(Long projectId);
 
+    // 여러 프로젝트의 이미지 경로를 한 번에 조회 (목록 N+1 방지, 표시 순서대로)
+    @Query("SELECT new com.wenect.donation_paltform.domain.project.dto.ProjectImagePathDto(i.projectId, i.filePath) " +
+            "FROM ProjectImage i " +
+            "WHERE i.projectId IN :projectIds " +
+            "ORDER BY i.projectId, i.displayOrder")
+    List<ProjectImagePathDto> findImagePathsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
     // 프로젝트 ID로 이미지 삭제
     void deleteByProjectId(Long projectId);
 }
@@ -1,10 +1,25 @@
 package com.wenect.donation_paltform.domain.project.repository;
 
+import com.wenect.donation_paltform.domain.project.dto.ProjectAttachmentView;
+import com.wenect.donation_paltform.domain.project.dto.ProjectDetailView;
+import com.wenect.donation_paltform.domain.project.dto.ProjectDonationStatsView;
+import com.wenect.donation_paltform.domain.project.dto.ProjectTitleDto;
 import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.statistics.dto.PlatformStatsAggregate;
+import com.wenect.donation_paltform.domain.statistics.dto.ProjectStatsRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -30,4 +45,159 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // 상태, 카테고리, 제목으로 검색
     List<Project> findByStatusAndCategoryIdAndTitleContainingIgnoreCase(
             Project.ProjectStatus status, Integer categoryId, String keyword);
+
+    // 검색 인덱스 생성용: ID 순으로 나누어 조회
+    List<Project> findByStatusAndProjectIdGreaterThanOrderByProjectIdAsc(
+            Project.ProjectStatus status, Long projectId, Pageable pageable);
+
+    // 검색 인덱스 동기화용: 특정 시각 이후 변경된 프로젝트 조회
+    List<Project> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    // 자동완성 색인 생성용: 상태별 프로젝트 ID/제목만 조회
+    @Query("SELECT new com.wenect.donation_paltform.domain.project.dto.ProjectTitleDto(p.projectId, p.title) " +
+            "FROM Project p WHERE p.status = :status")
+    List<ProjectTitleDto> findTitlesByStatus(@Param("status") Project.ProjectStatus status);
+
+    // 최근 기부 피드용: 프로젝트 ID 목록의 제목만 조회
+    @Query("SELECT new com.wenect.donation_paltform.domain.project.dto.ProjectTitleDto(p.projectId, p.title) " +
+            "FROM Project p WHERE p.projectId IN :projectIds")
+    List<ProjectTitleDto> findTitlesByIds(@Param("projectIds") List<Long> projectIds);
+
+    @Query("SELECT p.title FROM Project p WHERE p.projectId = :projectId")
+    Optional<String> findTitleById(@Param("projectId") Long projectId);
+
+    // 자동완성 색인 갱신용: 해당 상태일 때만 제목 조회
+    @Query("SELECT p.title FROM Project p WHERE p.projectId = :projectId AND p.status = :status")
+    Optional<String> findTitleByIdAndStatus(@Param("projectId") Long projectId,
+                                            @Param("status") Project.ProjectStatus status);
+
+    // ==================== 관심 등록 수 ====================
+
+    // 관심 등록 수 증감 (원자적 UPDATE, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Project p SET p.favoriteCount = p.favoriteCount + :delta " +
+            "WHERE p.projectId = :projectId AND p.favoriteCount + :delta >= 0")
+    int addFavoriteCount(@Param("projectId") Long projectId, @Param("delta") int delta);
+
+    // 인기 프로젝트: 관심 등록 수 DESC (IDX_projects_status_favorite_count 역방향 스캔 + LIMIT)
+    List<Project> findByStatusAndFavoriteCountGreaterThanOrderByFavoriteCountDescProjectIdDesc(
+            Project.ProjectStatus status, Integer favoriteCount, Pageable pageable);
+
+    // ==================== 모금 통계 재계산 ====================
+
+    @Query("SELECT COALESCE(MAX(p.projectId), 0) FROM Project p")
+    Long findMaxProjectId();
+
+    /**
+     * 범위 내 프로젝트의 저장된 모금 통계를 행 잠금과 함께 조회
+     * 잠금을 잡는 동안 집계(DonationTallyService)가 끼어들지 못해 재계산 값이 덮어써지지 않음
+     */
+    @Query(value = "SELECT project_id AS projectId, current_amount AS totalAmount, donor_count AS donorCount " +
+            "FROM projects WHERE project_id BETWEEN :fromId AND :toId " +
+            "ORDER BY project_id FOR UPDATE",
+            nativeQuery = true)
+    List<ProjectDonationStatsView> lockDonationStatsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.currentAmount = :currentAmount, p.donorCount = :donorCount " +
+            "WHERE p.projectId = :projectId")
+    int updateDonationStats(@Param("projectId") Long projectId,
+                            @Param("currentAmount") BigDecimal currentAmount,
+                            @Param("donorCount") Integer donorCount);
+
+    // ==================== 상세 조회 ====================
+
+    // 프로젝트 + 기관명 + 작성자 ID (o.user.userId는 FK 컬럼을 그대로 읽으므로 users 조인 없음)
+    @Query("SELECT new com.wenect.donation_paltform.domain.project.dto.ProjectDetailView(" +
+            "p, o.orgId, o.orgName, o.user.userId) " +
+            "FROM Project p JOIN Organization o ON o.orgId = p.orgId " +
+            "WHERE p.projectId = :projectId")
+    Optional<ProjectDetailView> findDetailViewById(@Param("projectId") Long projectId);
+
+    // 이미지(표시 순서) + 문서(등록 순서)를 한 번에 조회
+    @Query(value = "SELECT 'IMAGE' AS kind, i.image_id AS id, i.file_path AS filePath, " +
+            "       i.file_name AS fileName, i.file_size AS fileSize, 0 AS kindOrder, i.display_order AS sortOrder " +
+            "FROM project_images i WHERE i.project_id = :projectId " +
+            "UNION ALL " +
+            "SELECT 'DOCUMENT', d.doc_id, d.file_path, d.file_name, d.file_size, 1, 0 " +
+            "FROM project_documents d WHERE d.project_id = :projectId " +
+            "ORDER BY kindOrder, sortOrder, id",
+            nativeQuery = true)
+    List<ProjectAttachmentView> findAttachmentsByProjectId(@Param("projectId") Long projectId);
+
+    // ==================== 키셋(커서) 페이지네이션 ====================
+    // categoryId/keyword가 null이면 해당 조건은 무시됨
+    // 커서 조건은 (정렬 키, project_id) 튜플 비교로, 첫 페이지는 서비스에서 센티널 값을 전달
+    // 페이지 크기는 Pageable(PageRequest.of(0, size))로 LIMIT만 적용 (count 쿼리 없음)
+
+    // 최신순 (created_at DESC, project_id DESC)
+    @Query("SELECT p FROM Project p " +
+            "WHERE p.status = :status " +
+            "AND (:categoryId IS NULL OR p.categoryId = :categoryId) " +
+            "AND (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (p.createdAt < :cursorCreatedAt " +
+            "     OR (p.createdAt = :cursorCreatedAt AND p.projectId < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.projectId DESC")
+    List<Project> findPageOrderByLatest(
+            @Param("status") Project.ProjectStatus status,
+            @Param("categoryId") Integer categoryId,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 마감임박순 (end_date ASC, project_id ASC)
+    @Query("SELECT p FROM Project p " +
+            "WHERE p.status = :status " +
+            "AND (:categoryId IS NULL OR p.categoryId = :categoryId) " +
+            "AND (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (p.endDate > :cursorEndDate " +
+            "     OR (p.endDate = :cursorEndDate AND p.projectId > :cursorId)) " +
+            "ORDER BY p.endDate ASC, p.projectId ASC")
+    List<Project> findPageOrderByDeadline(
+            @Param("status") Project.ProjectStatus status,
+            @Param("categoryId") Integer categoryId,
+            @Param("keyword") String keyword,
+            @Param("cursorEndDate") LocalDate cursorEndDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 모금률순 (funding_rate DESC, project_id DESC) - 저장된 funding_rate 인덱스를 역방향으로 스캔
+    @Query("SELECT p FROM Project p " +
+            "WHERE p.status = :status " +
+            "AND (:categoryId IS NULL OR p.categoryId = :categoryId) " +
+            "AND (:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (p.fundingRate < :cursorFundingRate " +
+            "     OR (p.fundingRate = :cursorFundingRate AND p.projectId < :cursorId)) " +
+            "ORDER BY p.fundingRate DESC, p.projectId DESC")
+    List<Project> findPageOrderByFundingRate(
+            @Param("status") Project.ProjectStatus status,
+            @Param("categoryId") Integer categoryId,
+            @Param("keyword") String keyword,
+            @Param("cursorFundingRate") BigDecimal cursorFundingRate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // ==================== 통계 요약 ====================
+
+    // 통계 요약용 프로젝트 행 (ID 순 키셋)
+    @Query(value = "SELECT project_id AS projectId, status, current_amount AS currentAmount, donor_count AS donorCount " +
+            "FROM projects WHERE project_id > :afterId ORDER BY project_id LIMIT :limit",
+            nativeQuery = true)
+    List<ProjectStatsRow> findStatsRowsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // 통계 요약용 프로젝트 행 (변경된 프로젝트만, 삭제된 프로젝트는 행이 없음)
+    @Query(value = "SELECT project_id AS projectId, status, current_amount AS currentAmount, donor_count AS donorCount " +
+            "FROM projects WHERE project_id IN (:projectIds)",
+            nativeQuery = true)
+    List<ProjectStatsRow> findStatsRowsByIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // 통계 요약 전체 집계 (메모리 값 보정용)
+    @Query(value = "SELECT COALESCE(SUM(status = 'ACTIVE'), 0) AS activeProjects, " +
+            "COALESCE(SUM(status = 'COMPLETED'), 0) AS completedProjects, " +
+            "COALESCE(SUM(current_amount), 0) AS totalAmount, " +
+            "COALESCE(SUM(donor_count), 0) AS totalDonations " +
+            "FROM projects",
+            nativeQuery = true)
+    PlatformStatsAggregate aggregatePlatformStats();
 }
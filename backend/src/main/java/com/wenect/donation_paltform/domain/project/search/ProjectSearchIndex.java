@@ -0,0 +1,532 @@
+package com.wenect.donation_paltform.domain.project.search;
+
+import com.wenect.donation_paltform.domain.organization.event.OrganizationChangedEvent;
+import com.wenect.donation_paltform.domain.organization.service.OrganizationNameResolver;
+import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
+import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.global.util.CursorUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 검색 인덱스 (Lucene, 메모리 상주)
+ *
+ * - 진행중(ACTIVE) 프로젝트의 제목/설명/사용계획/카테고리/기관명을 Nori 형태소 분석기로 색인
+ * - 애플리케이션 시작 시 DB에서 전체 색인을 만들고, 이후에는 ProjectChangedEvent(커밋 이후)로 갱신
+ * - 다른 인스턴스에서 발생한 변경은 remote 이벤트로 반영되고, 유실에 대비해 updated_at 기준으로 주기적 동기화
+ * - 기관명 변경은 projects.updated_at을 바꾸지 않으므로 OrganizationChangedEvent로 그 기관의 프로젝트를 다시 색인
+ * - 색인이 준비되기 전에는 isReady()가 false이며, 호출 측은 DB 검색으로 대체해야 함
+ *
+ * 정렬별 커서는 인덱스 내부 값(마이크로초, epoch day, bp, 점수)을 그대로 사용하므로
+ * DB 검색 커서와 호환되지 않음 (키워드 검색 페이지는 항상 인덱스에서 이어서 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    // 저장/필터 필드
+    private static final String F_ID = "projectId";
+    private static final String F_CATEGORY_ID = "categoryId";
+
+    // 검색 필드 (가중치 순)
+    private static final String F_TITLE = "title";
+    private static final String F_ORGANIZATION = "organization";
+    private static final String F_CATEGORY = "category";
+    private static final String F_DESCRIPTION = "description";
+    private static final String F_BUDGET_PLAN = "budgetPlan";
+
+    // 정렬 필드 (NumericDocValues)
+    private static final String F_ID_SORT = "projectIdSort";
+    private static final String F_CREATED_AT = "createdAt";
+    private static final String F_END_DATE = "endDate";
+    private static final String F_FUNDING_RATE = "fundingRate";
+
+    // 색인 검색 커서 앞에 붙이는 표시 ("s|정렬값|projectId", DB 조회 커서는 "정렬값|projectId")
+    private static final String SEARCH_CURSOR_TAG = "s";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            F_TITLE, 4.0f,
+            F_ORGANIZATION, 2.0f,
+            F_CATEGORY, 2.0f,
+            F_DESCRIPTION, 1.0f,
+            F_BUDGET_PLAN, 0.5f
+    );
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    // 다른 인스턴스와의 시계 오차/커밋 지연 보정
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final ProjectRepository projectRepository;
+    private final OrganizationNameResolver organizationNameResolver;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final ByteBuffersDirectory directory = new ByteBuffersDirectory();
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    void open() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        ready = false;
+        searcherManager.close();
+        indexWriter.close();
+        analyzer.close();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ==================== 색인 ====================
+
+    /**
+     * 전체 색인 생성 (시작 시 1회)
+     * ApplicationReadyEvent 리스너가 끝난 뒤 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로
+     * 색인이 끝나기 전에는 트래픽이 들어오지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        try {
+            indexWriter.deleteAll();
+
+            long lastId = 0L;
+            int indexed = 0;
+            while (true) {
+                List<Project> chunk = projectRepository.findByStatusAndProjectIdGreaterThanOrderByProjectIdAsc(
+                        Project.ProjectStatus.ACTIVE, lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                Map<Long, String> orgNames = loadOrgNames(chunk);
+                for (Project project : chunk) {
+                    indexWriter.addDocument(toDocument(project, orgNames.get(project.getOrgId())));
+                }
+                indexed += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getProjectId();
+            }
+
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+            lastSyncedAt = syncStartedAt;
+            ready = true;
+
+            log.info("프로젝트 검색 인덱스 생성 완료 - {}건, {}ms", indexed, System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            // 색인 생성에 실패하면 ready=false로 남아 DB 검색으로 동작
+            log.error("프로젝트 검색 인덱스 생성 실패 - DB 검색으로 대체합니다", e);
+        }
+    }
+
+    /**
+     * 프로젝트 변경 이벤트 처리 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        try {
+            switch (event.getChangeType()) {
+                case DELETED -> indexWriter.deleteDocuments(idTerm(event.getProjectId()));
+                case DONATION_STATS -> updateFundingRate(event.getProjectId());
+                case CREATED -> reindex(event.getProjectId());
+                default -> {
+                    // 기부 옵션/관심 등록 변경은 색인 대상이 아님
+                    return;
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            // 주기적 동기화에서 다시 반영되므로 요청 처리는 실패시키지 않음
+            log.warn("프로젝트 검색 인덱스 갱신 실패 - projectId: {}", event.getProjectId(), e);
+        }
+    }
+
+    /**
+     * 기관 정보 변경 이벤트 처리 (커밋 이후, 다른 인스턴스의 변경은 remote 이벤트로 수신)
+     * 기관명 사전은 OrganizationNameResolver가 먼저 비우므로 여기서는 새 기관명으로 색인됨
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        try {
+            List<Project> projects = projectRepository.findByOrgId(event.getOrgId());
+            if (projects.isEmpty()) {
+                return;
+            }
+            String orgName = loadOrgNames(projects).get(event.getOrgId());
+            for (Project project : projects) {
+                upsert(project, orgName);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("기관 변경에 따른 검색 인덱스 갱신 실패 - orgId: {}", event.getOrgId(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 프로젝트 동기화 (updated_at 기준)
+     * 삭제된 프로젝트는 검색 결과를 DB에서 조회할 때 걸러지고, 다음 재시작 시 색인에서도 제거됨
+     */
+    @Scheduled(fixedDelayString = "${project.search.sync-interval-ms:60000}")
+    public void syncRecentChanges() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        try {
+            List<Project> changed = projectRepository.findByUpdatedAtGreaterThanEqual(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+            if (!changed.isEmpty()) {
+                Map<Long, String> orgNames = loadOrgNames(changed);
+                for (Project project : changed) {
+                    upsert(project, orgNames.get(project.getOrgId()));
+                }
+                searcherManager.maybeRefresh();
+            }
+            lastSyncedAt = syncStartedAt;
+        } catch (IOException | RuntimeException e) {
+            log.warn("프로젝트 검색 인덱스 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 주기적으로 검색기(searcher)를 갱신해 아직 반영되지 않은 변경을 노출
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void refreshSearcher() {
+        if (!ready) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("프로젝트 검색기 갱신 실패", e);
+        }
+    }
+
+    private void reindex(Long projectId) throws IOException {
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null) {
+            indexWriter.deleteDocuments(idTerm(projectId));
+            return;
+        }
+        upsert(project, loadOrgNames(List.of(project)).get(project.getOrgId()));
+    }
+
+    private void upsert(Project project, String orgName) throws IOException {
+        if (project.getStatus() != Project.ProjectStatus.ACTIVE) {
+            indexWriter.deleteDocuments(idTerm(project.getProjectId()));
+            return;
+        }
+        indexWriter.updateDocument(idTerm(project.getProjectId()), toDocument(project, orgName));
+    }
+
+    /**
+     * 모금액 변경은 정렬 값만 바뀌므로 문서 전체를 다시 분석하지 않고 DocValues만 갱신
+     */
+    private void updateFundingRate(Long projectId) throws IOException {
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null || project.getStatus() != Project.ProjectStatus.ACTIVE) {
+            indexWriter.deleteDocuments(idTerm(projectId));
+            return;
+        }
+        indexWriter.updateNumericDocValue(idTerm(projectId), F_FUNDING_RATE, toFundingRateBasisPoints(project));
+    }
+
+    private Document toDocument(Project project, String orgName) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, String.valueOf(project.getProjectId()), Field.Store.NO));
+        doc.add(new StringField(F_CATEGORY_ID, String.valueOf(project.getCategoryId()), Field.Store.NO));
+
+        doc.add(new TextField(F_TITLE, project.getTitle(), Field.Store.NO));
+        doc.add(new TextField(F_DESCRIPTION, project.getDescription(), Field.Store.NO));
+        if (project.getBudgetPlan() != null) {
+            doc.add(new TextField(F_BUDGET_PLAN, project.getBudgetPlan(), Field.Store.NO));
+        }
+        String categoryLabel = getCategoryLabel(project.getCategoryId());
+        if (categoryLabel != null) {
+            doc.add(new TextField(F_CATEGORY, categoryLabel, Field.Store.NO));
+        }
+        if (orgName != null) {
+            doc.add(new TextField(F_ORGANIZATION, orgName, Field.Store.NO));
+        }
+
+        doc.add(new NumericDocValuesField(F_ID_SORT, project.getProjectId()));
+        doc.add(new NumericDocValuesField(F_CREATED_AT, toEpochMicros(project.getCreatedAt())));
+        doc.add(new NumericDocValuesField(F_END_DATE, project.getEndDate().toEpochDay()));
+        doc.add(new NumericDocValuesField(F_FUNDING_RATE, toFundingRateBasisPoints(project)));
+        return doc;
+    }
+
+    private Map<Long, String> loadOrgNames(List<Project> projects) {
+        Set<Long> orgIds = projects.stream()
+                .map(Project::getOrgId)
+                .collect(Collectors.toSet());
+        return organizationNameResolver.getOrgNames(orgIds);
+    }
+
+    // ==================== 검색 ====================
+
+    /**
+     * 키워드 검색
+     *
+     * @param keyword 검색어 (Nori로 분석 후 필드별 가중치를 적용해 OR 검색)
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param sortBy relevance / latest / deadline / fundingRate
+     * @param cursor 이전 결과의 nextCursor (첫 페이지는 null, 색인 커서여야 함 - isSearchCursor)
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 커서가 유효하지 않은 경우
+     */
+    public ProjectSearchPage search(String keyword, Integer categoryId, String sortBy, String cursor, int size) {
+        Query textQuery = buildTextQuery(keyword);
+        if (textQuery == null) {
+            // 불용어만 입력된 경우 등 분석 결과가 비어 있으면 결과 없음
+            return new ProjectSearchPage(Collections.emptyList(), null);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST);
+        if (categoryId != null) {
+            query.add(new TermQuery(new Term(F_CATEGORY_ID, String.valueOf(categoryId))), BooleanClause.Occur.FILTER);
+        }
+
+        SearchSort searchSort = SearchSort.of(sortBy);
+
+        IndexSearcher searcher;
+        try {
+            searcher = searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            FieldDoc after = cursor != null && !cursor.isEmpty()
+                    ? searchSort.decodeCursor(cursor, searcher.getIndexReader().maxDoc())
+                    : null;
+
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            TopFieldDocs topDocs = searcher.searchAfter(after, query.build(), size + 1, searchSort.sort);
+            ScoreDoc[] hits = topDocs.scoreDocs;
+
+            List<Long> projectIds = new ArrayList<>(Math.min(hits.length, size));
+            for (int i = 0; i < hits.length && i < size; i++) {
+                projectIds.add(projectIdOf((FieldDoc) hits[i]));
+            }
+
+            String nextCursor = null;
+            if (hits.length > size) {
+                nextCursor = searchSort.encodeCursor((FieldDoc) hits[size - 1]);
+            }
+            return new ProjectSearchPage(projectIds, nextCursor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException e) {
+                log.warn("프로젝트 검색기 반환 실패", e);
+            }
+        }
+    }
+
+    private Query buildTextQuery(String keyword) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (Map.Entry<String, Float> entry : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(entry.getKey(), keyword);
+            if (fieldQuery != null) {
+                builder.add(new BoostQuery(fieldQuery, entry.getValue()), BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        return hasClause ? builder.build() : null;
+    }
+
+    /**
+     * 색인 검색 결과에서 만든 커서인지 (DB 조회 커서와 형식이 달라 서로 섞어 쓸 수 없음)
+     * 색인 준비 전 DB로 대체 조회한 커서가 색인 검색으로 오거나 그 반대인 경우 확인용
+     */
+    public static boolean isSearchCursor(String cursor) {
+        try {
+            return SEARCH_CURSOR_TAG.equals(CursorUtils.decode(cursor, 3)[0]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 모든 정렬의 마지막 키는 projectIdSort이므로 저장 필드를 읽지 않고 정렬 값에서 ID를 얻음
+    private static Long projectIdOf(FieldDoc hit) {
+        return (Long) hit.fields[hit.fields.length - 1];
+    }
+
+    /**
+     * 정렬 기준별 Lucene Sort와 커서 변환
+     * 첫 번째 정렬 값과 projectId를 커서로 사용하고, 같은 값일 때 projectId로 순서를 고정
+     */
+    private enum SearchSort {
+        RELEVANCE(new Sort(SortField.FIELD_SCORE, new SortField(F_ID_SORT, SortField.Type.LONG, true)),
+                Float::valueOf),
+        LATEST(new Sort(new SortField(F_CREATED_AT, SortField.Type.LONG, true),
+                new SortField(F_ID_SORT, SortField.Type.LONG, true)), Long::valueOf),
+        DEADLINE(new Sort(new SortField(F_END_DATE, SortField.Type.LONG),
+                new SortField(F_ID_SORT, SortField.Type.LONG)), Long::valueOf),
+        FUNDING_RATE(new Sort(new SortField(F_FUNDING_RATE, SortField.Type.LONG, true),
+                new SortField(F_ID_SORT, SortField.Type.LONG, true)), Long::valueOf);
+
+        private final Sort sort;
+        private final Function<String, Object> valueParser;
+
+        SearchSort(Sort sort, Function<String, Object> valueParser) {
+            this.sort = sort;
+            this.valueParser = valueParser;
+        }
+
+        static SearchSort of(String sortBy) {
+            if ("relevance".equals(sortBy)) {
+                return RELEVANCE;
+            } else if ("deadline".equals(sortBy)) {
+                return DEADLINE;
+            } else if ("fundingRate".equals(sortBy)) {
+                return FUNDING_RATE;
+            }
+            return LATEST;
+        }
+
+        String encodeCursor(FieldDoc last) {
+            return CursorUtils.encode(SEARCH_CURSOR_TAG, last.fields[0], last.fields[1]);
+        }
+
+        /**
+         * 동일한 정렬 값에서는 doc 번호로 경계를 판단하므로, 커서 문서 자신이 다시 포함되지 않도록
+         * doc을 마지막 문서 번호로 지정 (projectId가 유일하므로 다른 문서와는 항상 정렬 값이 다름)
+         */
+        FieldDoc decodeCursor(String cursor, int maxDoc) {
+            String[] parts = CursorUtils.decode(cursor, 3);
+            if (!SEARCH_CURSOR_TAG.equals(parts[0])) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+            try {
+                Object value = valueParser.apply(parts[1]);
+                Long projectId = Long.valueOf(parts[2]);
+                float score = value instanceof Float f ? f : Float.NaN;
+                return new FieldDoc(Math.max(maxDoc - 1, 0), score, new Object[]{value, projectId});
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+            }
+        }
+    }
+
+    // ==================== 값 변환 ====================
+
+    private static Term idTerm(Long projectId) {
+        return new Term(F_ID, String.valueOf(projectId));
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    /**
+     * 모금률을 bp(0.01%) 단위 정수로 변환 (DB의 funding_rate와 같은 계산식)
+     * 엔티티의 fundingRate는 DB 생성 컬럼이라 저장 직후에는 비어 있을 수 있으므로 직접 계산
+     */
+    private static long toFundingRateBasisPoints(Project project) {
+        BigDecimal target = project.getTargetAmount();
+        if (target == null || target.signum() <= 0 || project.getCurrentAmount() == null) {
+            return 0L;
+        }
+        return project.getCurrentAmount()
+                .multiply(BigDecimal.valueOf(10_000))
+                .divide(target, 0, RoundingMode.DOWN)
+                .longValue();
+    }
+
+    /**
+     * category_id -> 한글 카테고리명 (ProjectService.getCategoryId의 역변환, 카테고리명 검색용)
+     */
+    private static String getCategoryLabel(Integer categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        switch (categoryId) {
+            case 1:
+                return "아동복지";
+            case 2:
+                return "노인복지";
+            case 3:
+                return "장애인복지";
+            case 4:
+                return "동물보호";
+            case 5:
+                return "환경보호";
+            case 6:
+                return "교육";
+            default:
+                return null;
+        }
+    }
+}
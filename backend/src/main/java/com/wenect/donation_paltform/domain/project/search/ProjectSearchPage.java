@@ -0,0 +1,17 @@
+package com.wenect.donation_paltform.domain.project.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 조회 결과 (정렬된 프로젝트 ID 목록 + 다음 페이지 커서)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectSearchPage {
+
+    private List<Long> projectIds;
+    private String nextCursor;
+}
@@ -0,0 +1,108 @@
+package com.wenect.donation_paltform.domain.project.search;
+
+import com.wenect.donation_paltform.domain.project.dto.ProjectSuggestResponse;
+import com.wenect.donation_paltform.domain.project.dto.ProjectTitleDto;
+import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
+import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 제목 자동완성 색인 (메모리 상주 트라이)
+ *
+ * - 시작 시 진행중(ACTIVE) 프로젝트 제목으로 트라이를 만들고, 프로젝트 등록/삭제 이벤트는 해당 제목의 키 경로만 복사해 반영
+ * - 다른 인스턴스의 변경은 remote 이벤트로 반영되고, 유실에 대비해 주기적으로 전체 재생성
+ * - 조회는 불변 트라이 스냅샷을 읽기만 하므로 잠금 없이 동작
+ *   (제목은 트라이 교체 전에 넣고 교체 후에 빼므로, 이전 스냅샷에서 나온 삭제된 프로젝트는 제목이 없어 제외됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSuggestIndex {
+
+    private final ProjectRepository projectRepository;
+
+    // projectId -> 제목 (응답 제목, 제목 제거 시 키 계산용)
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private volatile ProjectTitleTrie trie = new ProjectTitleTrie(Collections.emptyMap());
+
+    /**
+     * 전체 재생성 (시작 시 + 주기적)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${project.suggest.rebuild-interval-ms:300000}",
+            fixedDelayString = "${project.suggest.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            Map<Long, String> loaded = projectRepository.findTitlesByStatus(Project.ProjectStatus.ACTIVE).stream()
+                    .collect(Collectors.toMap(ProjectTitleDto::getProjectId, ProjectTitleDto::getTitle));
+            ProjectTitleTrie rebuilt = new ProjectTitleTrie(loaded);
+            synchronized (this) {
+                titles.putAll(loaded);
+                trie = rebuilt;
+                titles.keySet().retainAll(loaded.keySet());
+            }
+            log.debug("프로젝트 자동완성 색인 생성 완료 - {}건", loaded.size());
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 자동완성 색인 생성 실패", e);
+        }
+    }
+
+    /**
+     * 프로젝트 등록/삭제 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getChangeType() != ProjectChangedEvent.ChangeType.CREATED
+                && event.getChangeType() != ProjectChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        Long projectId = event.getProjectId();
+        // 삭제는 DB를 읽을 필요 없음, 등록은 진행중일 때만 제목을 읽음 (엔티티 대신 제목만)
+        String title = event.getChangeType() == ProjectChangedEvent.ChangeType.CREATED
+                ? projectRepository.findTitleByIdAndStatus(projectId, Project.ProjectStatus.ACTIVE).orElse(null)
+                : null;
+        synchronized (this) {
+            String previous = titles.get(projectId);
+            if (title != null) {
+                titles.put(projectId, title);
+                ProjectTitleTrie base = previous != null ? trie.withoutTitle(projectId, previous) : trie;
+                trie = base.withTitle(projectId, title);
+            } else if (previous != null) {
+                trie = trie.withoutTitle(projectId, previous);
+                titles.remove(projectId);
+            }
+        }
+    }
+
+    /**
+     * 검색어로 시작하는 프로젝트 제목 조회 (초성 검색 지원)
+     */
+    public List<ProjectSuggestResponse> suggest(String query, int limit) {
+        List<ProjectSuggestResponse> suggestions = new ArrayList<>();
+        for (Long projectId : trie.search(query, limit)) {
+            String title = titles.get(projectId);
+            if (title != null) {
+                suggestions.add(ProjectSuggestResponse.builder()
+                        .projectId(projectId)
+                        .title(title)
+                        .build());
+            }
+        }
+        return suggestions;
+    }
+}
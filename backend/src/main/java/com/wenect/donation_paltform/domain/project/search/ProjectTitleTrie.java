@@ -0,0 +1,284 @@
+package com.wenect.donation_paltform.domain.project.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트 제목 접두어 트라이 (자동완성용, 생성 후 변경 불가)
+ *
+ * - 제목 추가/제거는 바뀌는 키 경로의 노드만 복사한 새 트라이를 반환 (나머지 노드는 공유, 기존 트라이는 그대로)
+ *
+ * - 공백을 제거한 제목 전체와, 각 단어로 시작하는 나머지 부분을 키로 등록
+ *   ("어린이 급식 지원" -> "어린이급식지원", "급식지원", "지원")
+ * - 검색어의 한글 자음(ㄱ~ㅎ)은 해당 초성으로 시작하는 음절과 일치 (ㅇㄹㅇ -> 어린이, 어ㄹ -> 어린)
+ * - 마지막 음절은 입력 중인 상태로 보고 완성 전 음절과도 일치
+ *   (어리 -> 어린, 얼 -> 어린: 받침이 다음 음절의 초성으로 넘어가는 경우)
+ */
+class ProjectTitleTrie {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 초성 순서의 호환용 자음
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 받침(종성 인덱스) -> 다음 음절 초성 인덱스 (겹받침은 -1: 분리하지 않음)
+    private static final int[] JONG_TO_CHO = {
+            -1, 0, 1, -1, 2, -1, -1, 3, 5, -1, -1, -1, -1, -1, -1, -1,
+            6, 7, -1, 9, 10, 11, 12, 14, 15, 16, 17, 18
+    };
+
+    private final Node root;
+
+    ProjectTitleTrie(Map<Long, String> titles) {
+        this.root = new Node();
+        // 새로 만드는 노드뿐이므로 복사 없이 채움
+        Set<Node> fresh = newIdentitySet();
+        fresh.add(root);
+        for (Map.Entry<Long, String> entry : titles.entrySet()) {
+            for (String key : keysOf(entry.getValue())) {
+                insert(root, key, entry.getKey(), fresh);
+            }
+        }
+    }
+
+    private ProjectTitleTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * 제목을 추가한 새 트라이 (키 경로의 노드만 복사)
+     */
+    ProjectTitleTrie withTitle(Long projectId, String title) {
+        Set<Node> fresh = newIdentitySet();
+        Node newRoot = copy(root, fresh);
+        for (String key : keysOf(title)) {
+            insert(newRoot, key, projectId, fresh);
+        }
+        return new ProjectTitleTrie(newRoot);
+    }
+
+    /**
+     * 제목을 제거한 새 트라이 (추가할 때와 같은 제목을 넘겨야 해당 키를 찾음, 빈 노드는 정리)
+     */
+    ProjectTitleTrie withoutTitle(Long projectId, String title) {
+        Set<Node> fresh = newIdentitySet();
+        Node newRoot = copy(root, fresh);
+        for (String key : keysOf(title)) {
+            remove(newRoot, key, 0, projectId, fresh);
+        }
+        return new ProjectTitleTrie(newRoot);
+    }
+
+    /**
+     * 검색어로 시작하는 제목의 프로젝트 ID 조회 (짧은 키 우선, 중복 제거)
+     */
+    List<Long> search(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Node> frontier = List.of(root);
+        for (int i = 0; i < key.length() && !frontier.isEmpty(); i++) {
+            frontier = step(frontier, key.charAt(i), i == key.length() - 1);
+        }
+        return collect(frontier, limit);
+    }
+
+    /**
+     * 제목의 색인 키: 공백을 제거한 제목 전체 + 각 단어로 시작하는 나머지 부분
+     */
+    private static List<String> keysOf(String title) {
+        List<String> keys = new ArrayList<>();
+        if (title == null) {
+            return keys;
+        }
+        String lower = title.toLowerCase();
+        StringBuilder rest = new StringBuilder();
+        // 뒤에서부터 공백을 제외한 문자를 쌓아 각 단어 시작 위치의 나머지 문자열을 얻음
+        for (int i = lower.length() - 1; i >= 0; i--) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            rest.insert(0, c);
+            if (i == 0 || Character.isWhitespace(lower.charAt(i - 1))) {
+                keys.add(rest.toString());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 키 경로에 프로젝트 ID 추가 (fresh에 없는 노드는 복사해서 바꿈)
+     */
+    private static void insert(Node root, String key, Long projectId, Set<Node> fresh) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            child = child != null ? copy(child, fresh) : fresh(new Node(), fresh);
+            node.children.put(key.charAt(i), child);
+            node = child;
+        }
+        if (!node.projectIds.contains(projectId)) {
+            node.projectIds.add(projectId);
+        }
+    }
+
+    /**
+     * 키 경로에서 프로젝트 ID 제거 (node는 이미 복사된 노드)
+     */
+    private static void remove(Node node, String key, int index, Long projectId, Set<Node> fresh) {
+        if (index == key.length()) {
+            node.projectIds.remove(projectId);
+            return;
+        }
+        char c = key.charAt(index);
+        Node child = node.children.get(c);
+        if (child == null) {
+            return;
+        }
+        child = copy(child, fresh);
+        remove(child, key, index + 1, projectId, fresh);
+        if (child.projectIds.isEmpty() && child.children.isEmpty()) {
+            node.children.remove(c);
+        } else {
+            node.children.put(c, child);
+        }
+    }
+
+    /**
+     * 이번 변경에서 만든 노드는 그대로, 기존 트라이의 노드는 복사해서 반환
+     */
+    private static Node copy(Node node, Set<Node> fresh) {
+        if (fresh.contains(node)) {
+            return node;
+        }
+        Node copied = new Node();
+        copied.children.putAll(node.children);
+        copied.projectIds.addAll(node.projectIds);
+        return fresh(copied, fresh);
+    }
+
+    private static Node fresh(Node node, Set<Node> fresh) {
+        fresh.add(node);
+        return node;
+    }
+
+    private static Set<Node> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private List<Node> step(List<Node> frontier, char q, boolean last) {
+        List<Node> next = new ArrayList<>();
+        int qCho = CHOSUNG.indexOf(q);
+        boolean qSyllable = isSyllable(q);
+
+        for (Node node : frontier) {
+            if (qCho >= 0) {
+                // 자음만 입력: 같은 초성의 모든 음절 (자음 자체가 제목에 있는 경우 포함)
+                for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                    char c = child.getKey();
+                    if (c == q || (isSyllable(c) && cho(c) == qCho)) {
+                        next.add(child.getValue());
+                    }
+                }
+            } else if (last && qSyllable) {
+                stepComposing(node, q, next);
+            } else {
+                Node child = node.children.get(q);
+                if (child != null) {
+                    next.add(child);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 입력 중인 마지막 음절 처리
+     * - 받침 없음: 초성/중성이 같은 모든 음절 (어리 -> 어린, 어릴)
+     * - 받침 있음: 같은 음절, 또는 받침 없는 음절 + 받침을 초성으로 하는 음절 (얼 -> 어린)
+     */
+    private void stepComposing(Node node, char q, List<Node> next) {
+        int qJong = jong(q);
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            char c = child.getKey();
+            if (!isSyllable(c) || cho(c) != cho(q) || jung(c) != jung(q)) {
+                continue;
+            }
+            if (qJong == 0 || jong(c) == qJong) {
+                next.add(child.getValue());
+            } else if (jong(c) == 0 && JONG_TO_CHO[qJong] >= 0) {
+                for (Map.Entry<Character, Node> grandChild : child.getValue().children.entrySet()) {
+                    char g = grandChild.getKey();
+                    if (isSyllable(g) && cho(g) == JONG_TO_CHO[qJong]) {
+                        next.add(grandChild.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Long> collect(List<Node> frontier, int limit) {
+        Set<Long> result = new LinkedHashSet<>();
+        Deque<Node> queue = new ArrayDeque<>(frontier);
+        while (!queue.isEmpty() && result.size() < limit) {
+            Node node = queue.poll();
+            for (Long projectId : node.projectIds) {
+                result.add(projectId);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            queue.addAll(node.children.values());
+        }
+        return new ArrayList<>(result);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static int cho(char syllable) {
+        return (syllable - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT);
+    }
+
+    private static int jung(char syllable) {
+        return (syllable - HANGUL_BASE) % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT;
+    }
+
+    private static int jong(char syllable) {
+        return (syllable - HANGUL_BASE) % JONG_COUNT;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Long> projectIds = new ArrayList<>(1);
+    }
+}
@@ -2,9 +2,11 @@ package com.wenect.donation_paltform.domain.project.service;
 
 import com.wenect.donation_paltform.domain.project.dto.DonationOptionDto;
 import com.wenect.donation_paltform.domain.project.entity.DonationOption;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
 import com.wenect.donation_paltform.domain.project.repository.DonationOptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
 public class DonationOptionService {
 
     private final DonationOptionRepository donationOptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로젝트의 활성화된 기부 옵션 목록 조회
@@ -71,6 +74,7 @@ public class DonationOptionService {
 
         DonationOption option = dto.toEntity();
         DonationOption saved = donationOptionRepository.save(option);
+        eventPublisher.publishEvent(ProjectChangedEvent.optionsChanged(saved.getProjectId()));
 
         return DonationOptionDto.fromEntity(saved);
     }
@@ -100,6 +104,7 @@ public class DonationOptionService {
                 .collect(Collectors.toList());
 
         List<DonationOption> savedOptions = donationOptionRepository.saveAll(options);
+        eventPublisher.publishEvent(ProjectChangedEvent.optionsChanged(projectId));
 
         return savedOptions.stream()
                 .map(DonationOptionDto::fromEntity)
@@ -128,6 +133,7 @@ public class DonationOptionService {
         option.setIsActive(dto.getIsActive());
 
         DonationOption updated = donationOptionRepository.save(option);
+        eventPublisher.publishEvent(ProjectChangedEvent.optionsChanged(updated.getProjectId()));
 
         return DonationOptionDto.fromEntity(updated);
     }
@@ -139,11 +145,11 @@ public class DonationOptionService {
     public void deleteOption(Long optionId) {
         log.info("기부 옵션 ID {} 삭제", optionId);
 
-        if (!donationOptionRepository.existsById(optionId)) {
-            throw new IllegalArgumentException("존재하지 않는 기부 옵션입니다.");
-        }
+        DonationOption option = donationOptionRepository.findById(optionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 기부 옵션입니다."));
 
-        donationOptionRepository.deleteById(optionId);
+        donationOptionRepository.delete(option);
+        eventPublisher.publishEvent(ProjectChangedEvent.optionsChanged(option.getProjectId()));
     }
 
     /**
@@ -153,6 +159,7 @@ public class DonationOptionService {
     public void deleteOptionsByProjectId(Long projectId) {
         log.info("프로젝트 ID {}의 모든 기부 옵션 삭제", projectId);
         donationOptionRepository.deleteByProjectId(projectId);
+        eventPublisher.publishEvent(ProjectChangedEvent.optionsChanged(projectId));
     }
 
     /**
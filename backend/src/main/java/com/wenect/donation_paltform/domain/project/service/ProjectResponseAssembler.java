@@ -0,0 +1,98 @@
+package com.wenect.donation_paltform.domain.project.service;
+
+import com.wenect.donation_paltform.domain.organization.service.OrganizationNameResolver;
+import com.wenect.donation_paltform.domain.project.dto.ProjectImagePathDto;
+import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
+import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.project.repository.ProjectImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 목록 응답 조립기
+ *
+ * 목록/인기/검색/관심 응답에서 프로젝트마다 이미지를 조회하던 N+1 문제를 없애기 위해
+ * 한 페이지의 이미지 경로를 IN 쿼리 한 번으로 가져와 ProjectResponse에 채워 넣음
+ * 기관명은 OrganizationNameResolver(메모리 사전, 없는 기관만 IN 쿼리 1회)로 채움
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectResponseAssembler {
+
+    private final ProjectImageRepository projectImageRepository;
+    private final OrganizationNameResolver organizationNameResolver;
+
+    /**
+     * 프로젝트 목록 -> 응답 DTO 목록 (입력 순서 유지)
+     */
+    public List<ProjectResponse> toResponses(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<String>> imageUrlsByProjectId = loadImageUrls(projects);
+        Map<Long, String> orgNames = organizationNameResolver.getOrgNames(projects.stream()
+                .map(Project::getOrgId)
+                .collect(Collectors.toSet()));
+
+        return projects.stream()
+                .map(project -> ProjectResponse.from(
+                        project,
+                        getCategoryName(project.getCategoryId()),
+                        orgNames.get(project.getOrgId()),
+                        imageUrlsByProjectId.getOrDefault(project.getProjectId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 프로젝트 단건 -> 응답 DTO
+     */
+    public ProjectResponse toResponse(Project project) {
+        return toResponses(List.of(project)).get(0);
+    }
+
+    /**
+     * category_id -> 카테고리명 변환 (하드코딩)
+     */
+    public String getCategoryName(Integer categoryId) {
+        switch (categoryId) {
+            case 1:
+                return "Child Welfare";
+            case 2:
+                return "Elder Care";
+            case 3:
+                return "Disability Support";
+            case 4:
+                return "Animal Protection";
+            case 5:
+                return "Environment";
+            case 6:
+                return "Education";
+            default:
+                return "Others";
+        }
+    }
+
+    /**
+     * 페이지 내 모든 프로젝트의 이미지 경로를 한 번에 조회해 projectId별로 묶음
+     */
+    private Map<Long, List<String>> loadImageUrls(List<Project> projects) {
+        List<Long> projectIds = projects.stream()
+                .map(Project::getProjectId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<String>> imageUrlsByProjectId = new HashMap<>();
+        for (ProjectImagePathDto image : projectImageRepository.findImagePathsByProjectIdIn(projectIds)) {
+            imageUrlsByProjectId
+                    .computeIfAbsent(image.getProjectId(), id -> new ArrayList<>())
+                    .add(image.getFilePath());
+        }
+        return imageUrlsByProjectId;
+    }
+}
@@ -0,0 +1,287 @@
+package com.wenect.donation_paltform.domain.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wenect.donation_paltform.domain.donation.event.DonationCompletedEvent;
+import com.wenect.donation_paltform.domain.organization.event.OrganizationChangedEvent;
+import com.wenect.donation_paltform.domain.project.dto.DonationOptionDto;
+import com.wenect.donation_paltform.domain.project.dto.DonorResponseDto;
+import com.wenect.donation_paltform.domain.project.dto.ProjectDetailResponse;
+import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
+import com.wenect.donation_paltform.global.common.PageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 프로젝트 조회 응답 캐시 (Caffeine, 인스턴스 메모리)
+ *
+ * - 목록(카테고리/검색어/정렬/커서/크기), 상세, 인기, 트렌딩, 기부 옵션, 기부자 첫 페이지 응답을 조립된 DTO 그대로 보관
+ * - ProjectChangedEvent(로컬 커밋 이후 + 다른 인스턴스 수신)로 영향받는 항목만 무효화
+ * - 기관명이 바뀌면(OrganizationChangedEvent) 그 기관의 프로젝트가 포함된 목록/상세 항목을 무효화
+ * - 이벤트 유실에 대비해 TTL을 두며, 적중/실패 지표는 cache.gets 등 Micrometer 지표로 노출
+ * - 같은 키의 동시 조회는 한 번만 로드 (Caffeine get(key, loader))
+ * - 로드 중 그 결과에 포함된 프로젝트(또는 해당 범위 전체)가 무효화되면 결과를 캐시에 넣지 않음
+ *
+ * 조회 트랜잭션 밖(컨트롤러)에서 사용해 캐시 적중 시 DB 커넥션을 사용하지 않음
+ */
+@Slf4j
+@Component
+public class ProjectResponseCache {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration TRENDING_TTL = Duration.ofSeconds(30);
+
+    private static final String FUNDING_RATE_SORT = "fundingRate";
+    private static final String LIST_SCOPE = "list";
+    private static final String FUNDING_RATE_LIST_SCOPE = "list:fundingRate";
+    private static final String POPULAR_SCOPE = "popular";
+    // 기관 변경은 드물고 로드 전에는 결과에 어느 기관이 포함될지 알 수 없으므로, 로드 중인 결과를 모두 버림
+    private static final String ORGANIZATION_SCOPE = "organization";
+
+    private final Cache<ListKey, PageResponse<ProjectResponse>> listCache;
+    private final Cache<Long, ProjectDetailResponse> detailCache;
+    private final Cache<Integer, List<ProjectResponse>> popularCache;
+    private final Cache<Long, List<DonationOptionDto>> optionCache;
+    // 트렌딩 순위는 주기적으로 바뀌므로 순위 갱신 주기 수준의 짧은 TTL만 적용
+    private final Cache<Integer, List<ProjectResponse>> trendingCache;
+    // 기부자 목록은 첫 페이지만 (대부분의 조회가 첫 페이지)
+    private final Cache<DonorKey, PageResponse<DonorResponseDto>> donorCache;
+
+    // 무효화 순번: 로드 시작 이후 결과에 영향을 주는 무효화가 있었으면 (변경 전 데이터일 수 있으므로) 캐시에 넣지 않음
+    private final AtomicLong sequence = new AtomicLong();
+    // 프로젝트 ID -> 그 프로젝트를 마지막으로 무효화한 순번 (프로젝트 수만큼만 커짐)
+    private final Map<Long, Long> projectVersions = new ConcurrentHashMap<>();
+    // 범위(목록 전체, 모금률순 목록, 인기 목록, 프로젝트별 기부자) -> 마지막으로 전체 무효화한 순번
+    private final Map<String, Long> scopeVersions = new ConcurrentHashMap<>();
+
+    public ProjectResponseCache(MeterRegistry meterRegistry) {
+        this.listCache = build(2_000);
+        this.detailCache = build(5_000);
+        this.popularCache = build(50);
+        this.optionCache = build(5_000);
+        this.trendingCache = Caffeine.newBuilder()
+                .maximumSize(50)
+                .expireAfterWrite(TRENDING_TTL)
+                .recordStats()
+                .build();
+        this.donorCache = build(5_000);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, listCache, "projectList");
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "projectDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, popularCache, "projectPopular");
+        CaffeineCacheMetrics.monitor(meterRegistry, optionCache, "projectOptions");
+        CaffeineCacheMetrics.monitor(meterRegistry, trendingCache, "projectTrending");
+        CaffeineCacheMetrics.monitor(meterRegistry, donorCache, "projectDonors");
+    }
+
+    private static <K, V> Cache<K, V> build(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+    }
+
+    // ==================== 조회 ====================
+
+    public PageResponse<ProjectResponse> getList(String category, String keyword, String sortBy, String cursor,
+                                                 int size, Supplier<PageResponse<ProjectResponse>> loader) {
+        List<String> scopes = FUNDING_RATE_SORT.equals(sortBy)
+                ? List.of(LIST_SCOPE, FUNDING_RATE_LIST_SCOPE) : List.of(LIST_SCOPE);
+        return get(listCache, new ListKey(category, keyword, sortBy, cursor, size), loader,
+                page -> projectIds(page.getContent()), scopes);
+    }
+
+    public ProjectDetailResponse getDetail(Long projectId, Supplier<ProjectDetailResponse> loader) {
+        return get(detailCache, projectId, loader, detail -> List.of(projectId), List.of());
+    }
+
+    public List<ProjectResponse> getPopular(int limit, Supplier<List<ProjectResponse>> loader) {
+        return get(popularCache, limit, loader, ProjectResponseCache::projectIds, List.of(POPULAR_SCOPE));
+    }
+
+    public List<ProjectResponse> getTrending(int limit, Supplier<List<ProjectResponse>> loader) {
+        return get(trendingCache, limit, loader, ProjectResponseCache::projectIds, List.of());
+    }
+
+    public List<DonationOptionDto> getOptions(Long projectId, Supplier<List<DonationOptionDto>> loader) {
+        return get(optionCache, projectId, loader, options -> List.of(projectId), List.of());
+    }
+
+    public PageResponse<DonorResponseDto> getDonorsFirstPage(Long projectId, boolean includeAnonymous, int size,
+                                                             Supplier<PageResponse<DonorResponseDto>> loader) {
+        return get(donorCache, new DonorKey(projectId, includeAnonymous, size), loader,
+                page -> List.of(projectId), List.of(donorScope(projectId)));
+    }
+
+    /**
+     * 캐시 조회, 없으면 로드 (같은 키의 동시 조회는 로드 한 번을 기다림)
+     *
+     * @param projectsOf 결과에 포함된 프로젝트 ID (이 프로젝트가 로드 중 무효화되면 캐시하지 않음)
+     * @param scopes 결과가 속한 범위 (범위 전체가 로드 중 무효화되면 캐시하지 않음)
+     */
+    private <K, V> V get(Cache<K, V> cache, K key, Supplier<V> loader,
+                         Function<V, Collection<Long>> projectsOf, List<String> scopes) {
+        long start = sequence.get();
+        Object[] loaded = new Object[1];
+        V value = cache.get(key, k -> {
+            V result = loader.get();
+            loaded[0] = result;
+            return result != null && !invalidatedSince(start, projectsOf.apply(result), scopes) ? result : null;
+        });
+        if (loaded[0] == null) {
+            // 다른 요청이 로드했거나 이미 캐시에 있던 값
+            return value;
+        }
+        @SuppressWarnings("unchecked")
+        V result = (V) loaded[0];
+        // 검사 직후 캐시에 들어가기 전에 무효화되었으면 (조건 무효화는 로드 중인 항목을 보지 못하므로) 다시 제거
+        if (value != null && invalidatedSince(start, projectsOf.apply(value), scopes)) {
+            cache.asMap().remove(key, value);
+        }
+        return result;
+    }
+
+    private boolean invalidatedSince(long start, Collection<Long> projectIds, List<String> scopes) {
+        if (scopeVersions.getOrDefault(ORGANIZATION_SCOPE, 0L) > start) {
+            return true;
+        }
+        for (String scope : scopes) {
+            if (scopeVersions.getOrDefault(scope, 0L) > start) {
+                return true;
+            }
+        }
+        for (Long projectId : projectIds) {
+            if (projectVersions.getOrDefault(projectId, 0L) > start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void bumpProject(Long projectId) {
+        projectVersions.put(projectId, sequence.incrementAndGet());
+    }
+
+    private void bumpScope(String scope) {
+        scopeVersions.put(scope, sequence.incrementAndGet());
+    }
+
+    // ==================== 무효화 ====================
+
+    /**
+     * 프로젝트 변경 시 영향받는 항목만 무효화
+     * - 목록은 키셋 페이지이므로 해당 프로젝트가 포함된 페이지만 바뀜 (등록은 어느 페이지에 들어갈지 알 수 없어 전체)
+     * - 모금액 변경은 모금률순 정렬 순서도 바꾸므로 모금률순 페이지 전체
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long projectId = event.getProjectId();
+
+        // 캐시에서 지우기 전에 순번을 올려, 지금 로드 중인 결과도 캐시에 들어가지 않게 함
+        switch (event.getChangeType()) {
+            case CREATED -> bumpScope(LIST_SCOPE);
+            case DONATION_STATS -> {
+                bumpProject(projectId);
+                bumpScope(FUNDING_RATE_LIST_SCOPE);
+            }
+            case FAVORITE_CHANGED -> bumpScope(POPULAR_SCOPE);
+            default -> bumpProject(projectId);
+        }
+
+        switch (event.getChangeType()) {
+            case CREATED -> listCache.invalidateAll();
+            case DELETED -> {
+                detailCache.invalidate(projectId);
+                invalidateDonors(projectId);
+                optionCache.invalidate(projectId);
+                invalidateIf(listCache, page -> containsProject(page.getContent(), projectId));
+                invalidateIf(popularCache, list -> containsProject(list, projectId));
+                invalidateIf(trendingCache, list -> containsProject(list, projectId));
+            }
+            case DONATION_STATS -> {
+                detailCache.invalidate(projectId);
+                invalidateDonors(projectId);
+                listCache.asMap().entrySet().removeIf(entry -> FUNDING_RATE_SORT.equals(entry.getKey().sortBy())
+                        || containsProject(entry.getValue().getContent(), projectId));
+                invalidateIf(popularCache, list -> containsProject(list, projectId));
+                invalidateIf(trendingCache, list -> containsProject(list, projectId));
+            }
+            case OPTIONS_CHANGED -> optionCache.invalidate(projectId);
+            case FAVORITE_CHANGED -> popularCache.invalidateAll();
+        }
+        log.debug("프로젝트 응답 캐시 무효화 - {}", event);
+    }
+
+    /**
+     * 결제 승인 커밋 직후 기부자 첫 페이지 무효화
+     * (모금액 집계는 조금 늦게 반영되지만 기부자 목록은 승인 즉시 바뀜, 다른 인스턴스는 집계 후 DONATION_STATS로 무효화)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationCompleted(DonationCompletedEvent event) {
+        bumpScope(donorScope(event.getProjectId()));
+        invalidateDonors(event.getProjectId());
+    }
+
+    /**
+     * 기관 정보 변경 시 그 기관의 프로젝트가 포함된 목록/인기/트렌딩/상세 항목 무효화 (기관명이 응답에 들어 있음)
+     * 다른 인스턴스의 변경은 OrganizationNameResolver가 remote 이벤트로 다시 발행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        Long orgId = event.getOrgId();
+        bumpScope(ORGANIZATION_SCOPE);
+
+        invalidateIf(listCache, page -> containsOrganization(page.getContent(), orgId));
+        invalidateIf(popularCache, list -> containsOrganization(list, orgId));
+        invalidateIf(trendingCache, list -> containsOrganization(list, orgId));
+        invalidateIf(detailCache, detail -> detail.getOrganization() != null
+                && orgId.equals(detail.getOrganization().getOrganizationId()));
+        log.debug("프로젝트 응답 캐시 무효화 - {}", event);
+    }
+
+    private void invalidateDonors(Long projectId) {
+        donorCache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    private static <K, V> void invalidateIf(Cache<K, V> cache, Predicate<V> predicate) {
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    private static String donorScope(Long projectId) {
+        return "donors:" + projectId;
+    }
+
+    private static List<Long> projectIds(List<ProjectResponse> responses) {
+        return responses.stream().map(ProjectResponse::getProjectId).toList();
+    }
+
+    private static boolean containsProject(List<ProjectResponse> responses, Long projectId) {
+        return responses.stream().anyMatch(response -> projectId.equals(response.getProjectId()));
+    }
+
+    private static boolean containsOrganization(List<ProjectResponse> responses, Long orgId) {
+        return responses.stream().anyMatch(response -> orgId.equals(response.getOrgId()));
+    }
+
+    private record ListKey(String category, String keyword, String sortBy, String cursor, int size) {
+    }
+
+    private record DonorKey(Long projectId, boolean includeAnonymous, int size) {
+    }
+}
@@ -1,17 +1,31 @@
 package com.wenect.donation_paltform.domain.project.service;
 
+import com.wenect.donation_paltform.domain.donation.service.DonorSketchService;
 import com.wenect.donation_paltform.domain.project.dto.CreateProjectRequest;
+import com.wenect.donation_paltform.domain.project.dto.ProjectAttachmentView;
 import com.wenect.donation_paltform.domain.project.dto.ProjectDetailResponse;
+import com.wenect.donation_paltform.domain.project.dto.ProjectDetailView;
 import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
+import com.wenect.donation_paltform.domain.project.dto.ProjectSuggestResponse;
 import com.wenect.donation_paltform.domain.organization.entity.Organization;
 import com.wenect.donation_paltform.domain.project.entity.Project;
 import com.wenect.donation_paltform.domain.project.entity.ProjectDocument;
 import com.wenect.donation_paltform.domain.project.entity.ProjectImage;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
 import com.wenect.donation_paltform.domain.organization.repository.OrganizationRepository;
 import com.wenect.donation_paltform.domain.project.repository.ProjectDocumentRepository;
 import com.wenect.donation_paltform.domain.project.repository.ProjectImageRepository;
 import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.domain.project.search.ProjectSearchIndex;
+import com.wenect.donation_paltform.domain.project.search.ProjectSearchPage;
+import com.wenect.donation_paltform.domain.project.search.ProjectSuggestIndex;
+import com.wenect.donation_paltform.domain.project.trending.ProjectTrendingService;
+import com.wenect.donation_paltform.global.common.PageResponse;
+import com.wenect.donation_paltform.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,21 +35,36 @@ import jakarta.persistence.PersistenceContext;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGEST_SIZE = 20;
+    private static final int MAX_SUGGEST_QUERY_LENGTH = 50;
+    private static final BigDecimal FUNDING_RATE_SENTINEL = new BigDecimal("1000000000");
+
     private final ProjectRepository projectRepository;
     private final ProjectImageRepository projectImageRepository;
     private final ProjectDocumentRepository projectDocumentRepository;
     private final OrganizationRepository organizationRepository;
     private final com.wenect.donation_paltform.global.service.FileStorageService fileStorageService;
-    private final com.wenect.donation_paltform.domain.favorite.service.FavoriteProjectService favoriteProjectService;
     private final DonationOptionService donationOptionService;
+    private final ProjectResponseAssembler projectResponseAssembler;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSuggestIndex projectSuggestIndex;
+    private final ProjectTrendingService projectTrendingService;
+    private final DonorSketchService donorSketchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -63,25 +92,10 @@ public class ProjectService {
     }
 
     /**
-     * category_id -> 카테고리명 변환 (하드코딩)
+     * category_id -> 카테고리명 변환
      */
     private String getCategoryName(Integer categoryId) {
-        switch (categoryId) {
-            case 1:
-                return "Child Welfare";
-            case 2:
-                return "Elder Care";
-            case 3:
-                return "Disability Support";
-            case 4:
-                return "Animal Protection";
-            case 5:
-                return "Environment";
-            case 6:
-                return "Education";
-            default:
-                return "Others";
-        }
+        return projectResponseAssembler.getCategoryName(categoryId);
     }
 
     /**
@@ -165,9 +179,12 @@ public class ProjectService {
             donationOptionService.createOptions(savedProject.getProjectId(), request.getDonationOptions());
         }
 
-        // 8. DTO 변환 및 반환
+        // 8. 검색 인덱스 등에 변경 알림 (커밋 이후 처리)
+        eventPublisher.publishEvent(ProjectChangedEvent.created(savedProject.getProjectId()));
+
+        // 9. DTO 변환 및 반환
         String categoryName = getCategoryName(categoryId);
-        return ProjectResponse.from(savedProject, categoryName, imageUrls);
+        return ProjectResponse.from(savedProject, categoryName, organization.getOrgName(), imageUrls);
     }
 
     /**
@@ -178,56 +195,52 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다"));
 
-        // 이미지 URL 조회
-        List<String> imageUrls = projectImageRepository.findByProjectIdOrderByDisplayOrder(projectId)
-                .stream()
-                .map(ProjectImage::getFilePath)
-                .collect(Collectors.toList());
-
-        String categoryName = getCategoryName(project.getCategoryId());
-        return ProjectResponse.from(project, categoryName, imageUrls);
+        return projectResponseAssembler.toResponse(project);
     }
 
     /**
      * 프로젝트 상세 조회 (상세 페이지용)
+     * 프로젝트/기관명/작성자 ID 조인 쿼리 1회 + 이미지/문서 UNION ALL 쿼리 1회 + 고유 기부자 추정치 PK 조회 1회
      */
     @Transactional(readOnly = true)
     public ProjectDetailResponse getProjectDetail(Long projectId) {
-        // 1. 프로젝트 조회
-        Project project = projectRepository.findById(projectId)
+        // 1. 프로젝트 + 기관 정보 조회
+        ProjectDetailView view = projectRepository.findDetailViewById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다"));
 
-        // 2. 기관 정보 조회
-        Organization organization = organizationRepository.findById(project.getOrgId())
-                .orElseThrow(() -> new IllegalArgumentException("기관 정보를 찾을 수 없습니다"));
-
-        // 3. 이미지 목록 조회
-        List<ProjectImage> projectImages = projectImageRepository.findByProjectIdOrderByDisplayOrder(projectId);
+        // 2. 이미지 + 문서 목록 조회
+        List<ProjectAttachmentView> attachments = projectRepository.findAttachmentsByProjectId(projectId);
 
-        // 4. 문서 목록 조회
-        List<ProjectDocument> projectDocuments = projectDocumentRepository.findByProjectId(projectId);
+        // 3. 카테고리명 조회
+        String categoryName = getCategoryName(view.getProject().getCategoryId());
 
-        // 5. 카테고리명 조회
-        String categoryName = getCategoryName(project.getCategoryId());
+        // 4. 고유 기부자 추정치 (스케치가 없으면 기부 건수, 추정 오차로 기부 건수를 넘지 않도록 제한)
+        long donationCount = view.getProject().getDonorCount() != null ? view.getProject().getDonorCount() : 0;
+        long uniqueDonors = donorSketchService.getProjectEstimate(projectId)
+                .map(estimate -> Math.min(estimate, donationCount))
+                .orElse(donationCount);
 
-        // 6. DTO 변환 및 반환
-        return ProjectDetailResponse.from(project, categoryName, organization, projectImages, projectDocuments);
+        // 5. DTO 변환 및 반환
+        return ProjectDetailResponse.from(view, categoryName, attachments, uniqueDonors);
     }
 
     /**
-     * 전체 프로젝트 목록 조회
+     * 프로젝트 검색 (카테고리, 키워드, 정렬) - 키셋(커서) 페이지네이션
+     *
+     * 키워드가 있으면 검색 인덱스(ProjectSearchIndex)에서 조회하고, 없으면 DB에서 조회
+     * 정렬과 페이지 경계 판단을 모두 인덱스/DB에서 처리하므로 몇 번째 페이지든 비용이 동일함
+     * - relevance: 검색 점수 DESC, project_id DESC (키워드 검색 전용)
+     * - latest: created_at DESC, project_id DESC
+     * - deadline: end_date ASC, project_id ASC
+     * - fundingRate: 모금률 DESC, project_id DESC
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @throws IllegalArgumentException 카테고리나 커서가 유효하지 않은 경우
      */
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getAllProjects() {
-        return searchProjects(null, null, "latest");
-    }
-
-    /**
-     * 프로젝트 검색 (카테고리, 키워드, 정렬)
-     */
-    @Transactional(readOnly = true)
-    public List<ProjectResponse> searchProjects(String category, String keyword, String sortBy) {
-        List<Project> projects;
+    public PageResponse<ProjectResponse> searchProjects(
+            String category, String keyword, String sortBy, String cursor, int size) {
 
         // 카테고리 ID 변환
         Integer categoryId = null;
@@ -235,90 +248,178 @@ public class ProjectService {
             categoryId = getCategoryId(category);
         }
 
-        // 검색 조건에 따라 Repository 메서드 호출
-        if (categoryId != null && keyword != null && !keyword.trim().isEmpty()) {
-            // 카테고리 + 키워드
-            projects = projectRepository.findByStatusAndCategoryIdAndTitleContainingIgnoreCase(
-                    Project.ProjectStatus.ACTIVE, categoryId, keyword);
-        } else if (categoryId != null) {
-            // 카테고리만
-            projects = projectRepository.findByStatusAndCategoryId(
-                    Project.ProjectStatus.ACTIVE, categoryId);
-        } else if (keyword != null && !keyword.trim().isEmpty()) {
-            // 키워드만
-            projects = projectRepository.findByStatusAndTitleContainingIgnoreCase(
-                    Project.ProjectStatus.ACTIVE, keyword);
-        } else {
-            // 전체 (ACTIVE 상태만)
-            projects = projectRepository.findByStatus(Project.ProjectStatus.ACTIVE);
+        String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        boolean hasCursor = cursor != null && !cursor.isEmpty();
+        // 색인 검색 커서와 DB 조회 커서는 형식이 다름 - 색인 준비 여부가 페이지 사이에 바뀌었거나
+        // 레플리카마다 다르면 다른 쪽 커서가 올 수 있으므로, 이때는 오류 대신 첫 페이지부터 다시 조회
+        boolean searchCursor = hasCursor && ProjectSearchIndex.isSearchCursor(cursor);
+
+        // 키워드 검색은 검색 인덱스 사용 (색인 준비 전에는 DB 제목 검색으로 대체)
+        if (searchKeyword != null && projectSearchIndex.isReady()) {
+            return searchByIndex(searchKeyword, categoryId, sortBy, searchCursor ? cursor : null, pageSize);
+        }
+        if (searchCursor) {
+            hasCursor = false;
         }
 
-        // 정렬
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Project> projects;
         if ("deadline".equals(sortBy)) {
-            // 마감임박순 (endDate 오름차순)
-            projects = projects.stream()
-                    .sorted((p1, p2) -> p1.getEndDate().compareTo(p2.getEndDate()))
-                    .collect(Collectors.toList());
+            // 마감임박순 (첫 페이지는 가장 이른 날짜를 센티널로 사용)
+            LocalDate cursorEndDate = LocalDate.of(1000, 1, 1);
+            Long cursorId = 0L;
+            if (hasCursor) {
+                String[] parts = CursorUtils.decode(cursor, 2);
+                cursorEndDate = parseCursorValue(() -> LocalDate.parse(parts[0]));
+                cursorId = parseCursorValue(() -> Long.valueOf(parts[1]));
+            }
+            projects = projectRepository.findPageOrderByDeadline(
+                    Project.ProjectStatus.ACTIVE, categoryId, searchKeyword, cursorEndDate, cursorId, limit);
         } else if ("fundingRate".equals(sortBy)) {
-            // 모금률순 (currentAmount / targetAmount 내림차순)
-            projects = projects.stream()
-                    .sorted((p1, p2) -> {
-                        double rate1 = p1.getCurrentAmount().divide(p1.getTargetAmount(), 4, BigDecimal.ROUND_HALF_UP).doubleValue();
-                        double rate2 = p2.getCurrentAmount().divide(p2.getTargetAmount(), 4, BigDecimal.ROUND_HALF_UP).doubleValue();
-                        return Double.compare(rate2, rate1);
-                    })
-                    .collect(Collectors.toList());
+            // 모금률순 (첫 페이지는 충분히 큰 모금률을 센티널로 사용)
+            BigDecimal cursorFundingRate = FUNDING_RATE_SENTINEL;
+            Long cursorId = Long.MAX_VALUE;
+            if (hasCursor) {
+                String[] parts = CursorUtils.decode(cursor, 2);
+                cursorFundingRate = parseCursorValue(() -> new BigDecimal(parts[0]));
+                cursorId = parseCursorValue(() -> Long.valueOf(parts[1]));
+            }
+            projects = projectRepository.findPageOrderByFundingRate(
+                    Project.ProjectStatus.ACTIVE, categoryId, searchKeyword, cursorFundingRate, cursorId, limit);
         } else {
-            // 최신순 (기본)
-            projects = projects.stream()
-                    .sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-                    .collect(Collectors.toList());
+            // 최신순 (기본, 첫 페이지는 가장 늦은 시각을 센티널로 사용)
+            LocalDateTime cursorCreatedAt = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+            Long cursorId = Long.MAX_VALUE;
+            if (hasCursor) {
+                String[] parts = CursorUtils.decode(cursor, 2);
+                cursorCreatedAt = parseCursorValue(() -> LocalDateTime.parse(parts[0]));
+                cursorId = parseCursorValue(() -> Long.valueOf(parts[1]));
+            }
+            projects = projectRepository.findPageOrderByLatest(
+                    Project.ProjectStatus.ACTIVE, categoryId, searchKeyword, cursorCreatedAt, cursorId, limit);
+        }
+
+        // 다음 페이지 커서 생성 (현재 페이지 마지막 행의 정렬 키)
+        String nextCursor = null;
+        if (projects.size() > pageSize) {
+            projects = projects.subList(0, pageSize);
+            nextCursor = createCursor(projects.get(pageSize - 1), sortBy);
         }
 
-        // DTO 변환
-        return projects.stream()
-                .map(project -> {
-                    List<String> imageUrls = projectImageRepository.findByProjectIdOrderByDisplayOrder(project.getProjectId())
-                            .stream()
-                            .map(ProjectImage::getFilePath)
-                            .collect(Collectors.toList());
-
-                    String categoryName = getCategoryName(project.getCategoryId());
-                    return ProjectResponse.from(project, categoryName, imageUrls);
-                })
+        // DTO 변환 (이미지는 페이지 단위로 한 번에 조회)
+        List<ProjectResponse> content = projectResponseAssembler.toResponses(projects);
+
+        return PageResponse.ofCursor(content, pageSize, nextCursor);
+    }
+
+    /**
+     * 검색 인덱스로 키워드 검색
+     * 인덱스는 정렬된 ID만 반환하고, 프로젝트는 DB에서 한 번에 조회해 인덱스 순서대로 정렬
+     */
+    private PageResponse<ProjectResponse> searchByIndex(
+            String keyword, Integer categoryId, String sortBy, String cursor, int pageSize) {
+
+        ProjectSearchPage page = projectSearchIndex.search(keyword, categoryId, sortBy, cursor, pageSize);
+
+        Map<Long, Project> projectMap = projectRepository.findAllById(page.getProjectIds()).stream()
+                .collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+
+        // 다른 인스턴스에서 삭제/상태 변경되어 아직 색인에 남아 있는 프로젝트는 제외
+        List<Project> projects = page.getProjectIds().stream()
+                .map(projectMap::get)
+                .filter(Objects::nonNull)
+                .filter(project -> project.getStatus() == Project.ProjectStatus.ACTIVE)
                 .collect(Collectors.toList());
+
+        List<ProjectResponse> content = projectResponseAssembler.toResponses(projects);
+
+        return PageResponse.ofCursor(content, pageSize, page.getNextCursor());
+    }
+
+    /**
+     * 정렬 기준에 맞는 커서 생성
+     */
+    private String createCursor(Project last, String sortBy) {
+        if ("deadline".equals(sortBy)) {
+            return CursorUtils.encode(last.getEndDate(), last.getProjectId());
+        } else if ("fundingRate".equals(sortBy)) {
+            return CursorUtils.encode(last.getFundingRate().toPlainString(), last.getProjectId());
+        }
+        return CursorUtils.encode(last.getCreatedAt(), last.getProjectId());
+    }
+
+    /**
+     * 커서 값 파싱 (형식 오류는 IllegalArgumentException으로 변환)
+     */
+    private <T> T parseCursorValue(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+        }
+    }
+
+    /**
+     * 검색어 자동완성 (메모리 색인 조회, DB 접근 없음)
+     * 제목 접두어 및 초성(ㅇㄹㅇ -> 어린이) 일치
+     */
+    public List<ProjectSuggestResponse> suggestProjects(String query, int limit) {
+        if (query == null || query.isBlank() || query.length() > MAX_SUGGEST_QUERY_LENGTH) {
+            return List.of();
+        }
+        return projectSuggestIndex.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGEST_SIZE)));
     }
 
     /**
      * 인기 프로젝트 조회 (관심 등록 수 기준 정렬)
+     * projects.favorite_count 인덱스로 진행중 프로젝트 상위 N개만 조회
      */
     @Transactional(readOnly = true)
     public List<ProjectResponse> getPopularProjects(int limit) {
-        // 1. 관심 등록 수가 많은 프로젝트 ID 목록 조회
-        List<Long> topProjectIds = favoriteProjectService.getTopProjectIdsByFavoriteCount(limit);
-
-        // 2. 프로젝트 정보 조회 및 DTO 변환
-        return topProjectIds.stream()
-                .map(projectId -> {
-                    Project project = projectRepository.findById(projectId)
-                            .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다"));
-
-                    // ACTIVE 상태인 프로젝트만 반환
-                    if (project.getStatus() != Project.ProjectStatus.ACTIVE) {
-                        return null;
-                    }
-
-                    List<String> imageUrls = projectImageRepository.findByProjectIdOrderByDisplayOrder(project.getProjectId())
-                            .stream()
-                            .map(ProjectImage::getFilePath)
-                            .collect(Collectors.toList());
-
-                    String categoryName = getCategoryName(project.getCategoryId());
-                    return ProjectResponse.from(project, categoryName, imageUrls);
-                })
-                .filter(response -> response != null) // null 제거
-                .limit(limit) // ACTIVE가 아닌 프로젝트를 제외한 후 다시 limit 적용
+        // 1. 관심 등록 수가 많은 진행중 프로젝트 조회 (관심 등록이 없는 프로젝트는 제외)
+        List<Project> projects = projectRepository
+                .findByStatusAndFavoriteCountGreaterThanOrderByFavoriteCountDescProjectIdDesc(
+                        Project.ProjectStatus.ACTIVE, 0, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
+
+        // 2. DTO 변환 (이미지는 한 번에 조회)
+        return projectResponseAssembler.toResponses(projects);
+    }
+
+    /**
+     * 트렌딩 프로젝트 조회 (최근 기부/관심 등록/조회 활동 점수, 시간 감쇠)
+     * 순위는 메모리 스냅샷에서 읽고, 프로젝트는 ID로 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getTrendingProjects(int limit) {
+        List<Long> rankedIds = projectTrendingService.getSnapshot().stream()
+                .map(ProjectTrendingService.TrendingEntry::projectId)
+                .toList();
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Project> projectMap = projectRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+
+        List<Project> projects = rankedIds.stream()
+                .map(projectMap::get)
+                .filter(Objects::nonNull)
+                .filter(project -> project.getStatus() == Project.ProjectStatus.ACTIVE)
+                .limit(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)))
                 .collect(Collectors.toList());
+
+        return projectResponseAssembler.toResponses(projects);
+    }
+
+    /**
+     * 프로젝트 조회 기록 (트렌딩 점수용, 메모리에만 누적)
+     */
+    public void recordProjectView(Long projectId) {
+        projectTrendingService.recordView(projectId);
     }
 
     /**
@@ -400,5 +501,8 @@ public class ProjectService {
         // CASCADE 설정으로 project_images, project_documents, favorite_projects는 자동 삭제
         // donations의 project_id는 NULL로 변경됨
         projectRepository.delete(project);
+
+        // 7. 검색 인덱스 등에 변경 알림 (커밋 이후 처리)
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(projectId));
     }
 }
@@ -0,0 +1,37 @@
+package com.wenect.donation_paltform.domain.project.trending;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 트렌딩 점수 (project_trending_scores)
+ *
+ * 점수는 forward decay 형태의 로그 값으로 저장: log_key = ln(점수) + λ·t(초)
+ * - 현재 점수 = exp(log_key - λ·now): 모든 행이 같은 비율로 감소하므로 log_key 순서 = 현재 점수 순서
+ * - 따라서 시간이 지나도 다시 계산할 필요 없이 log_key 인덱스만으로 상위 K개를 조회할 수 있음
+ */
+@Entity
+@Table(
+        name = "project_trending_scores",
+        indexes = {
+                @Index(name = "IDX_trending_log_key", columnList = "log_key")
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectTrendingScore {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "log_key", nullable = false)
+    private Double logKey;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.wenect.donation_paltform.domain.project.trending;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectTrendingScoreRepository extends JpaRepository<ProjectTrendingScore, Long> {
+
+    /**
+     * 점수 누적 (여러 인스턴스가 동시에 반영해도 행 단위로 원자적)
+     * 기존 점수를 현재 시점으로 감쇠시킨 뒤 delta를 더하고 다시 로그 키로 저장
+     *
+     * @param delta 이번 주기에 쌓인 활동 점수
+     * @param lambdaNow λ·현재시각(초)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO project_trending_scores (project_id, log_key, updated_at) " +
+            "VALUES (:projectId, LN(:delta) + :lambdaNow, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "log_key = LN(EXP(log_key - :lambdaNow) + :delta) + :lambdaNow, " +
+            "updated_at = NOW(6)",
+            nativeQuery = true)
+    int addScore(@Param("projectId") Long projectId,
+                 @Param("delta") double delta,
+                 @Param("lambdaNow") double lambdaNow);
+
+    // 상위 점수 조회 (log_key 인덱스 역방향 스캔)
+    @Query("SELECT s FROM ProjectTrendingScore s ORDER BY s.logKey DESC")
+    List<ProjectTrendingScore> findTop(Pageable pageable);
+
+    // 현재 점수가 기준 이하로 감쇠된 행 삭제 (log_key < λ·now + ln(기준점수))
+    @Modifying
+    @Query("DELETE FROM ProjectTrendingScore s WHERE s.logKey < :minLogKey")
+    int deleteByLogKeyLessThan(@Param("minLogKey") double minLogKey);
+}
@@ -0,0 +1,161 @@
+package com.wenect.donation_paltform.domain.project.trending;
+
+import com.wenect.donation_paltform.domain.donation.event.DonationCompletedEvent;
+import com.wenect.donation_paltform.domain.favorite.event.FavoriteAddedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트렌딩 프로젝트 엔진 (최근 활동 기반, 지수 감쇠)
+ *
+ * 활동 점수: 기부 완료 5점, 관심 등록 3점, 상세 조회 1점
+ * 점수는 반감기(기본 6시간)마다 절반으로 줄어듦
+ *
+ * - 기록: 인스턴스 메모리에 프로젝트별 점수만 누적 (DB 접근 없음)
+ * - flush(주기): 누적분을 꺼내 project_trending_scores에 원자적으로 합산 (모든 인스턴스가 같은 테이블 공유)
+ *   반영이 커밋되지 않으면 꺼낸 점수를 다시 누적해 다음 주기에 반영
+ * - 조회: flush 직후 읽어 둔 상위 K개 스냅샷을 메모리에서 반환
+ * 점수는 DB에 남으므로 재시작해도 유지되고, 레플리카 간 순위도 동일함
+ */
+@Slf4j
+@Service
+public class ProjectTrendingService {
+
+    static final double DONATION_WEIGHT = 5.0;
+    static final double FAVORITE_WEIGHT = 3.0;
+    static final double VIEW_WEIGHT = 1.0;
+
+    // 상위 스냅샷 크기 (진행중이 아닌 프로젝트를 걸러낼 여유분 포함)
+    private static final int SNAPSHOT_SIZE = 100;
+    // 이 점수 아래로 감쇠된 프로젝트는 테이블에서 정리
+    private static final double MIN_SCORE = 0.01;
+
+    private final ProjectTrendingScoreRepository trendingScoreRepository;
+    private final double lambda;
+
+    // 아직 DB에 반영하지 않은 활동 점수
+    // 반영할 때 항목을 꺼내(remove) 비우므로 활동이 없는 프로젝트는 남지 않음
+    private final Map<Long, Double> pendingScores = new ConcurrentHashMap<>();
+    private volatile List<TrendingEntry> snapshot = List.of();
+
+    public ProjectTrendingService(ProjectTrendingScoreRepository trendingScoreRepository,
+                                  @Value("${project.trending.half-life-hours:6}") double halfLifeHours) {
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.lambda = Math.log(2) / (halfLifeHours * 3600);
+    }
+
+    // ==================== 활동 기록 ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationCompleted(DonationCompletedEvent event) {
+        record(event.getProjectId(), DONATION_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFavoriteAdded(FavoriteAddedEvent event) {
+        record(event.getProjectId(), FAVORITE_WEIGHT);
+    }
+
+    /**
+     * 상세 페이지 조회 기록 (캐시 적중 여부와 관계없이 호출)
+     */
+    public void recordView(Long projectId) {
+        record(projectId, VIEW_WEIGHT);
+    }
+
+    private void record(Long projectId, double weight) {
+        if (projectId != null) {
+            pendingScores.merge(projectId, weight, Double::sum);
+        }
+    }
+
+    // ==================== 반영 / 스냅샷 ====================
+
+    /**
+     * 누적 점수를 DB에 합산하고 상위 K개 스냅샷 갱신
+     * flush 주기(기본 30초) 안의 감쇠는 무시 (반감기 대비 오차가 매우 작음)
+     */
+    @Scheduled(fixedDelayString = "${project.trending.flush-interval-ms:30000}")
+    @Transactional
+    public void flush() {
+        double lambdaNow = lambdaNow();
+        // 항목을 통째로 꺼냄 - 꺼낸 뒤 들어온 기록은 새 항목으로 쌓여 다음 주기에 반영
+        Map<Long, Double> drained = new HashMap<>();
+        for (Long projectId : pendingScores.keySet()) {
+            Double delta = pendingScores.remove(projectId);
+            if (delta != null && delta > 0) {
+                drained.put(projectId, delta);
+            }
+        }
+        if (!drained.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        // 롤백되면 반영하지 못한 점수를 되돌려 다음 주기에 다시 반영
+                        drained.forEach((projectId, delta) -> pendingScores.merge(projectId, delta, Double::sum));
+                        log.warn("트렌딩 점수 반영 실패 - {}개 프로젝트 점수를 다음 주기로 이월", drained.size());
+                    }
+                }
+            });
+        }
+
+        drained.forEach((projectId, delta) -> trendingScoreRepository.addScore(projectId, delta, lambdaNow));
+        refreshSnapshot(lambdaNow);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadSnapshot() {
+        refreshSnapshot(lambdaNow());
+    }
+
+    private void refreshSnapshot(double lambdaNow) {
+        snapshot = trendingScoreRepository.findTop(PageRequest.of(0, SNAPSHOT_SIZE)).stream()
+                .map(score -> new TrendingEntry(score.getProjectId(), Math.exp(score.getLogKey() - lambdaNow)))
+                .toList();
+    }
+
+    /**
+     * 충분히 감쇠된 점수 정리
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 600_000)
+    @Transactional
+    public void purgeDecayedScores() {
+        int deleted = trendingScoreRepository.deleteByLogKeyLessThan(lambdaNow() + Math.log(MIN_SCORE));
+        if (deleted > 0) {
+            log.debug("트렌딩 점수 정리 - {}건", deleted);
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 현재 트렌딩 상위 프로젝트 (점수 내림차순, 메모리 스냅샷)
+     */
+    public List<TrendingEntry> getSnapshot() {
+        return snapshot;
+    }
+
+    private double lambdaNow() {
+        return lambda * (System.currentTimeMillis() / 1000.0);
+    }
+
+    public record TrendingEntry(Long projectId, double score) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.wenect.donation_paltform.domain.statistics.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * projects 테이블 전체 SQL 집계 결과 (메모리 통계 보정용)
+ */
+public interface PlatformStatsAggregate {
+
+    Long getActiveProjects();
+
+    Long getCompletedProjects();
+
+    BigDecimal getTotalAmount();
+
+    Long getTotalDonations();
+}
@@ -0,0 +1,17 @@
+package com.wenect.donation_paltform.domain.statistics.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 통계 요약 계산에 필요한 프로젝트 컬럼 프로젝션 (설명/사용계획 등 TEXT 컬럼 제외)
+ */
+public interface ProjectStatsRow {
+
+    Long getProjectId();
+
+    String getStatus();
+
+    BigDecimal getCurrentAmount();
+
+    Integer getDonorCount();
+}
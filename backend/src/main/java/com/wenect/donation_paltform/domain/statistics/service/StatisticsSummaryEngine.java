@@ -0,0 +1,247 @@
+package com.wenect.donation_paltform.domain.statistics.service;
+
+import com.wenect.donation_paltform.domain.donation.service.DonorSketchService;
+import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.project.event.ProjectChangedEvent;
+import com.wenect.donation_paltform.domain.project.repository.ProjectRepository;
+import com.wenect.donation_paltform.domain.statistics.dto.PlatformStatsAggregate;
+import com.wenect.donation_paltform.domain.statistics.dto.ProjectStatsRow;
+import com.wenect.donation_paltform.domain.statistics.dto.StatisticsSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플랫폼 통계 요약 (메모리 증분 집계)
+ *
+ * 홈페이지마다 전체 프로젝트를 읽지 않도록 활성/완료 프로젝트 수, 총 모금액, 총 기부 건수를 메모리에 유지
+ * - 시작 시 프로젝트별 (상태, 모금액, 기부 건수)만 읽어 합계 계산 (TEXT 컬럼 제외)
+ * - ProjectChangedEvent(등록/삭제/모금 통계 변경, 다른 인스턴스 포함)로 바뀐 프로젝트만 모아 두었다가
+ *   주기마다 한 번에 다시 읽고, 이전 값과의 차이만큼 합계를 조정
+ * - 주기적으로 SQL 집계와 비교해 다르면(상태 직접 변경 등 이벤트 없는 변경) 전체를 다시 읽어 보정
+ * - 조회는 마지막으로 만든 응답 객체를 그대로 반환 (DB 조회 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsSummaryEngine {
+
+    private static final int LOAD_CHUNK_SIZE = 5_000;
+    private static final int REFRESH_BATCH_SIZE = 1_000;
+
+    private final ProjectRepository projectRepository;
+    private final DonorSketchService donorSketchService;
+
+    // 프로젝트별 마지막 반영 값
+    private final Map<Long, ProjectStats> projects = new HashMap<>();
+    // 변경 이벤트를 받았지만 아직 반영하지 않은 프로젝트
+    private final Set<Long> dirtyProjectIds = ConcurrentHashMap.newKeySet();
+
+    private long activeProjects;
+    private long completedProjects;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private long totalDonations;
+
+    private volatile StatisticsSummaryResponse summary;
+
+    /**
+     * 현재 통계 요약 (시작 직후 아직 계산 전이면 SQL 집계로 한 번 계산)
+     */
+    public StatisticsSummaryResponse getSummary() {
+        StatisticsSummaryResponse current = summary;
+        if (current == null) {
+            reload();
+            current = summary;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("통계 요약 초기화 실패 - 첫 조회 시 다시 시도", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED, DELETED, DONATION_STATS -> dirtyProjectIds.add(event.getProjectId());
+            default -> {
+                // 옵션/관심 등록 변경은 요약 통계와 무관
+            }
+        }
+    }
+
+    /**
+     * 변경된 프로젝트를 다시 읽어 합계에 차이만 반영
+     */
+    @Scheduled(fixedDelayString = "${statistics.summary.refresh-interval-ms:1000}")
+    public void refreshChanged() {
+        if (dirtyProjectIds.isEmpty() || summary == null) {
+            return;
+        }
+        try {
+            List<Long> ids = new ArrayList<>(dirtyProjectIds);
+            dirtyProjectIds.removeAll(ids);
+            for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size()));
+                applyRows(batch, projectRepository.findStatsRowsByIds(batch));
+            }
+        } catch (RuntimeException e) {
+            log.warn("통계 요약 갱신 실패 - 다음 보정 주기에 전체 재계산", e);
+        }
+    }
+
+    /**
+     * SQL 집계와 메모리 합계 비교, 다르면 전체 다시 읽기
+     */
+    @Scheduled(fixedDelayString = "${statistics.summary.verify-interval-ms:600000}",
+            initialDelayString = "${statistics.summary.verify-interval-ms:600000}")
+    public void verify() {
+        // 대기 중인 변경을 먼저 반영해 진행 중인 변경을 차이로 오인하는 경우를 줄임
+        refreshChanged();
+        try {
+            PlatformStatsAggregate actual = projectRepository.aggregatePlatformStats();
+            boolean drifted;
+            synchronized (this) {
+                drifted = actual.getActiveProjects() != activeProjects
+                        || actual.getCompletedProjects() != completedProjects
+                        || actual.getTotalAmount().compareTo(totalAmount) != 0
+                        || actual.getTotalDonations() != totalDonations;
+                if (drifted) {
+                    log.warn("통계 요약 보정 - 활성: {} → {}, 완료: {} → {}, 모금액: {} → {}, 기부 건수: {} → {}",
+                            activeProjects, actual.getActiveProjects(),
+                            completedProjects, actual.getCompletedProjects(),
+                            totalAmount, actual.getTotalAmount(),
+                            totalDonations, actual.getTotalDonations());
+                }
+            }
+            if (drifted) {
+                reload();
+            } else {
+                // 고유 기부자 추정치는 합계와 별개로 주기마다 갱신
+                synchronized (this) {
+                    publish();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("통계 요약 보정 실패", e);
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 전체 프로젝트를 ID 순으로 나눠 읽어 합계 재계산
+     */
+    private synchronized void reload() {
+        projects.clear();
+        activeProjects = 0;
+        completedProjects = 0;
+        totalAmount = BigDecimal.ZERO;
+        totalDonations = 0;
+
+        long afterId = 0;
+        while (true) {
+            List<ProjectStatsRow> rows = projectRepository.findStatsRowsAfter(afterId, LOAD_CHUNK_SIZE);
+            for (ProjectStatsRow row : rows) {
+                put(row.getProjectId(), ProjectStats.from(row));
+            }
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getProjectId();
+        }
+        publish();
+        log.info("통계 요약 계산 - 프로젝트 {}개, 활성 {}개, 완료 {}개, 모금액 {}",
+                projects.size(), activeProjects, completedProjects, totalAmount);
+    }
+
+    private synchronized void applyRows(List<Long> ids, List<ProjectStatsRow> rows) {
+        Set<Long> found = new HashSet<>();
+        for (ProjectStatsRow row : rows) {
+            found.add(row.getProjectId());
+            put(row.getProjectId(), ProjectStats.from(row));
+        }
+        for (Long id : ids) {
+            if (!found.contains(id)) {
+                remove(id);
+            }
+        }
+        publish();
+    }
+
+    private void put(Long projectId, ProjectStats stats) {
+        remove(projectId);
+        projects.put(projectId, stats);
+        apply(stats, 1);
+    }
+
+    private void remove(Long projectId) {
+        ProjectStats previous = projects.remove(projectId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+    }
+
+    private void apply(ProjectStats stats, int sign) {
+        if (stats.status() == Project.ProjectStatus.ACTIVE) {
+            activeProjects += sign;
+        } else if (stats.status() == Project.ProjectStatus.COMPLETED) {
+            completedProjects += sign;
+        }
+        totalAmount = sign > 0 ? totalAmount.add(stats.amount()) : totalAmount.subtract(stats.amount());
+        totalDonations += (long) sign * stats.donations();
+    }
+
+    /**
+     * 현재 합계로 응답 객체 교체 (총 기부자 수는 고유 기부자 추정치, 없으면 기부 건수 합계)
+     */
+    private void publish() {
+        long donations = totalDonations;
+        long totalDonors = donorSketchService.getGlobalEstimate()
+                .map(estimate -> Math.min(estimate, donations))
+                .orElse(donations);
+
+        summary = StatisticsSummaryResponse.builder()
+                .totalProjects(activeProjects) // 홈페이지에서는 활성 프로젝트만 표시
+                .totalDonors(totalDonors)
+                .totalDonationAmount(totalAmount)
+                .activeProjects(activeProjects)
+                .completedProjects(completedProjects)
+                .build();
+    }
+
+    private record ProjectStats(Project.ProjectStatus status, BigDecimal amount, int donations) {
+
+        static ProjectStats from(ProjectStatsRow row) {
+            Project.ProjectStatus status;
+            try {
+                status = row.getStatus() != null ? Project.ProjectStatus.valueOf(row.getStatus()) : null;
+            } catch (IllegalArgumentException e) {
+                status = null;
+            }
+            return new ProjectStats(
+                    status,
+                    row.getCurrentAmount() != null ? row.getCurrentAmount() : BigDecimal.ZERO,
+                    row.getDonorCount() != null ? row.getDonorCount() : 0);
+        }
+    }
+}
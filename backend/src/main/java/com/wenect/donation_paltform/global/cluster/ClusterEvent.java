@@ -0,0 +1,45 @@
+package com.wenect.donation_paltform.global.cluster;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간 이벤트 전달용 테이블 (cluster_events)
+ * 각 인스턴스가 주기적으로 조회해 다른 인스턴스가 남긴 이벤트를 처리하고, 오래된 행은 삭제
+ */
+@Entity
+@Table(
+        name = "cluster_events",
+        indexes = {
+                @Index(name = "IDX_cluster_events_created_at", columnList = "created_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // 이벤트를 발행한 인스턴스 ID (자신이 발행한 이벤트는 처리하지 않음)
+    @Column(name = "origin_node", nullable = false, length = 100)
+    private String originNode;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 1000)
+    private String payload;
+
+    // 인스턴스 간 시계 차이를 없애기 위해 DB 시각으로 기록
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime createdAt;
+}
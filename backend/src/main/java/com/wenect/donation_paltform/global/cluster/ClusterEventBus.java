@@ -0,0 +1,116 @@
+package com.wenect.donation_paltform.global.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 이벤트 버스 (DB 테이블 폴링 방식)
+ *
+ * 여러 레플리카가 같은 MySQL을 공유하므로 별도 브로커 없이 cluster_events 테이블로 이벤트를 전달
+ * - publish: 이벤트 행 저장 (호출 측 트랜잭션과 무관하게 즉시 커밋)
+ * - poll: 다른 인스턴스가 저장한 이벤트를 RemoteClusterEvent로 로컬에 발행
+ * 전달 지연은 폴링 주기(기본 1초) 수준이며, 캐시 무효화처럼 유실되어도 TTL로 복구되는 용도에 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterEventBus {
+
+    // 늦게 커밋된 이벤트를 놓치지 않도록 최근 이벤트를 다시 조회하는 구간
+    private static final int REDELIVERY_WINDOW_SECONDS = 5;
+    private static final int PROCESSED_ID_CAPACITY = 10_000;
+    private static final int RETENTION_MINUTES = 60;
+
+    private final ClusterEventRepository clusterEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${HOSTNAME:local}")
+    private String hostname;
+
+    private final String nodeSuffix = UUID.randomUUID().toString().substring(0, 8);
+
+    // 최근 처리한 이벤트 ID (재조회 구간의 중복 처리 방지)
+    private final Set<Long> processedIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > PROCESSED_ID_CAPACITY;
+        }
+    });
+
+    private Long lastEventId;
+
+    /**
+     * 현재 인스턴스 ID (파드 이름 + 임의 값)
+     */
+    public String getNodeId() {
+        return hostname + "-" + nodeSuffix;
+    }
+
+    /**
+     * 다른 인스턴스로 이벤트 발행
+     * AFTER_COMMIT 리스너에서도 호출되므로 새 트랜잭션으로 저장
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void publish(String eventType, String payload) {
+        clusterEventRepository.save(ClusterEvent.builder()
+                .originNode(getNodeId())
+                .eventType(eventType)
+                .payload(payload)
+                .build());
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 이벤트 수신
+     */
+    @Scheduled(fixedDelayString = "${cluster.events.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        try {
+            if (lastEventId == null) {
+                // 시작 이전 이벤트는 처리하지 않음 (로컬 상태는 시작 시 DB에서 새로 만들어짐)
+                lastEventId = clusterEventRepository.findMaxEventId();
+                return;
+            }
+
+            List<ClusterEvent> events = clusterEventRepository.findRecent(lastEventId, REDELIVERY_WINDOW_SECONDS);
+            String nodeId = getNodeId();
+            for (ClusterEvent event : events) {
+                lastEventId = Math.max(lastEventId, event.getEventId());
+                if (!processedIds.add(event.getEventId()) || nodeId.equals(event.getOriginNode())) {
+                    continue;
+                }
+                try {
+                    eventPublisher.publishEvent(new RemoteClusterEvent(event.getEventType(), event.getPayload()));
+                } catch (RuntimeException e) {
+                    log.warn("클러스터 이벤트 처리 실패 - eventId: {}, type: {}", event.getEventId(), event.getEventType(), e);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("클러스터 이벤트 조회 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 정리
+     */
+    @Scheduled(fixedDelay = 600_000)
+    @Transactional
+    public void purge() {
+        int deleted = clusterEventRepository.deleteOlderThan(RETENTION_MINUTES);
+        if (deleted > 0) {
+            log.debug("클러스터 이벤트 정리 - {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.wenect.donation_paltform.global.cluster;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ClusterEventRepository extends JpaRepository<ClusterEvent, Long> {
+
+    // 마지막으로 본 ID 이후 이벤트 + 최근 N초 이벤트 (늦게 커밋되어 ID 순서가 뒤바뀐 이벤트 보정)
+    @Query(value = "SELECT * FROM cluster_events " +
+            "WHERE event_id > :lastEventId " +
+            "   OR created_at >= NOW(6) - INTERVAL :windowSeconds SECOND " +
+            "ORDER BY event_id",
+            nativeQuery = true)
+    List<ClusterEvent> findRecent(@Param("lastEventId") Long lastEventId,
+                                  @Param("windowSeconds") int windowSeconds);
+
+    @Query("SELECT COALESCE(MAX(e.eventId), 0) FROM ClusterEvent e")
+    Long findMaxEventId();
+
+    // 보관 기간이 지난 이벤트 삭제
+    @Modifying
+    @Query(value = "DELETE FROM cluster_events WHERE created_at < NOW(6) - INTERVAL :retentionMinutes MINUTE",
+            nativeQuery = true)
+    int deleteOlderThan(@Param("retentionMinutes") int retentionMinutes);
+}
@@ -0,0 +1,18 @@
+package com.wenect.donation_paltform.global.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 다른 인스턴스에서 수신한 클러스터 이벤트
+ * ClusterEventBus가 로컬 ApplicationEvent로 다시 발행하며, 각 도메인은 eventType으로 골라서 처리
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RemoteClusterEvent {
+
+    private final String eventType;
+    private final String payload;
+}
@@ -13,11 +13,16 @@ import java.util.List;
 @Builder
 public class PageResponse<T> {
     private List<T> content;
-    private int currentPage;
-    private int totalPages;
-    private long totalElements;
+    // 번호 기반 페이지 정보 (커서 기반 응답은 전체 건수를 세지 않으므로 null)
+    private Integer currentPage;
+    private Integer totalPages;
+    private Long totalElements;
     private int size;
 
+    // 키셋(커서) 페이지네이션: 다음 페이지 요청 시 cursor 파라미터로 전달
+    private String nextCursor;
+    private boolean hasNext;
+
     /**
      * 단순 리스트를 PageResponse로 변환 (페이징 없이 전체 반환)
      */
@@ -26,8 +31,26 @@ public class PageResponse<T> {
                 .content(content)
                 .currentPage(0)
                 .totalPages(1)
-                .totalElements(content.size())
+                .totalElements((long) content.size())
                 .size(content.size())
+                .hasNext(false)
+                .build();
+    }
+
+    /**
+     * 커서 기반 페이지 응답 생성
+     * currentPage/totalPages/totalElements는 알 수 없으므로 null (다음 페이지 여부는 hasNext/nextCursor로 판단)
+     *
+     * @param content 현재 페이지 데이터
+     * @param size 요청한 페이지 크기
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, String nextCursor) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
 }
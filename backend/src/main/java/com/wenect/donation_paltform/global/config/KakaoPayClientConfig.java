@@ -0,0 +1,106 @@
+package com.wenect.donation_paltform.global.config;
+
+import com.wenect.donation_paltform.global.config.properties.KakaoPayProperties;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 카카오페이 API 호출용 HTTP 클라이언트 설정
+ *
+ * - 연결 풀 재사용 + 연결/응답/풀 대기 타임아웃 (기본 RestTemplate은 풀도 타임아웃도 없음)
+ * - 벌크헤드: 준비/승인 각각 동시 호출 수 제한, 초과 시 대기 없이 거절
+ *   → PG가 느려져도 묶이는 서블릿 스레드는 최대 2 × max-concurrent-calls개
+ * - 서킷 브레이커: 연결 실패/5xx/지연이 누적되면 일정 시간 호출 자체를 차단
+ */
+@Configuration
+public class KakaoPayClientConfig {
+
+    public static final String CIRCUIT_BREAKER = "kakaopay";
+    public static final String READY_BULKHEAD = "kakaopay-ready";
+    public static final String APPROVE_BULKHEAD = "kakaopay-approve";
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoPayHttpClient(KakaoPayProperties kakaoPayProperties) {
+        KakaoPayProperties.Client client = kakaoPayProperties.getClient();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(client.getMaxConnections())
+                .setMaxConnPerRoute(client.getMaxConnections())  // 호출 대상 호스트가 하나뿐
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(client.getConnectTimeout()))
+                        .setSocketTimeout(timeout(client.getReadTimeout()))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(client.getPoolAcquireTimeout()))
+                        .setResponseTimeout(timeout(client.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate kakaoPayRestTemplate(CloseableHttpClient kakaoPayHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(kakaoPayHttpClient));
+    }
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofSeconds(3))
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                // 4xx(잘못된 pg_token 등)는 PG 장애가 아니므로 실패로 세지 않음
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(KakaoPayProperties kakaoPayProperties, MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(kakaoPayProperties.getClient().getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
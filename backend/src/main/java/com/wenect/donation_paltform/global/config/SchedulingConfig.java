@@ -0,0 +1,24 @@
+package com.wenect.donation_paltform.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정 (@Scheduled 작업 활성화)
+ * 기본 스케줄러는 스레드가 1개라 아웃박스 처리처럼 오래 걸리는 작업이
+ * 캐시/검색 인덱스 갱신 등 다른 주기 작업을 밀어내지 않도록 풀 크기를 늘림
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
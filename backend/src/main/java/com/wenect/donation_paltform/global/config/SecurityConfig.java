@@ -1,9 +1,11 @@
 package com.wenect.donation_paltform.global.config;
 
 import com.wenect.donation_paltform.global.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
@@ -55,12 +57,16 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답 종료 시의 비동기 디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/projects/**").permitAll()
                         .requestMatchers("/api/donations/**").permitAll()
                         .requestMatchers("/api/payments/**").permitAll() // 결제 API는 인증 불필요
                         .requestMatchers("/api/statistics/**").permitAll()
                         .requestMatchers("/uploads/**").permitAll() // 업로드된 파일 접근 허용
+                        .requestMatchers("/actuator/health/**").permitAll() // k8s liveness/readiness 프로브
+                        .requestMatchers(HttpMethod.GET, "/api/notifications/stream").permitAll() // 일회용 스트림 티켓으로 인증
                         .requestMatchers("/api/favorites/**").authenticated() // 관심 프로젝트 API는 인증 필요
                         .requestMatchers("/api/users/me/**").authenticated() // 사용자 프로필 API는 인증 필요
                         .anyRequest().authenticated())
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * 카카오페이 API 설정 프로퍼티
  * application-pay.yml 파일의 kakaopay 설정을 자동으로 바인딩
@@ -34,6 +36,7 @@ public class KakaoPayProperties {
     private String readyUrl;
     private String approveUrl;
     private String cancelApiUrl;  // API 취소용
+    private String orderUrl = "https://open-api.kakaopay.com/online/v1/payment/order";  // 주문 조회 (승인 결과 확인용)
 
     /**
      * 결제 후 리다이렉트 URL
@@ -41,4 +44,19 @@ public class KakaoPayProperties {
     private String approvalUrl;   // 결제 성공 시
     private String cancelUrl;     // 결제 취소 시 리다이렉트
     private String failUrl;       // 결제 실패 시
+
+    /**
+     * HTTP 클라이언트 설정 (연결 풀, 타임아웃, 동시 호출 제한)
+     */
+    private Client client = new Client();
+
+    @Getter
+    @Setter
+    public static class Client {
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+        private int maxConnections = 50;
+        private int maxConcurrentCalls = 20;  // 준비/승인 각각 (초과 요청은 대기 없이 거절)
+    }
 }
@@ -0,0 +1,31 @@
+package com.wenect.donation_paltform.global.lock;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 실행 잠금 (scheduler_locks)
+ * 여러 레플리카 중 한 곳에서만 작업이 돌도록 작업 이름별로 보유 인스턴스와 만료 시각을 기록
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 100)
+    private String lockName;
+
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+
+    // 이 시각이 지나면 보유 인스턴스가 죽은 것으로 보고 다른 인스턴스가 가져갈 수 있음
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
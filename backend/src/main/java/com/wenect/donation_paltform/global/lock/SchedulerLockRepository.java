@@ -0,0 +1,38 @@
+package com.wenect.donation_paltform.global.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 행이 없으면 만료된 상태로 생성
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (lock_name, locked_by, locked_until) " +
+            "VALUES (:lockName, '', NOW(6))",
+            nativeQuery = true)
+    int ensureExists(@Param("lockName") String lockName);
+
+    /**
+     * 만료됐거나 자신이 보유한 잠금이면 lease만큼 보유 (DB 시각 기준이라 인스턴스 간 시계 차이 무관)
+     *
+     * @return 획득하면 1
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks " +
+            "SET locked_by = :owner, locked_until = NOW(6) + INTERVAL (:leaseMillis * 1000) MICROSECOND " +
+            "WHERE lock_name = :lockName AND (locked_until < NOW(6) OR locked_by = :owner)",
+            nativeQuery = true)
+    int tryAcquire(@Param("lockName") String lockName,
+                   @Param("owner") String owner,
+                   @Param("leaseMillis") long leaseMillis);
+
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks SET locked_until = NOW(6) " +
+            "WHERE lock_name = :lockName AND locked_by = :owner",
+            nativeQuery = true)
+    int release(@Param("lockName") String lockName, @Param("owner") String owner);
+}
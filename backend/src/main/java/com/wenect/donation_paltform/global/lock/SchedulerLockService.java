@@ -0,0 +1,39 @@
+package com.wenect.donation_paltform.global.lock;
+
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * 레플리카 간 주기 작업 잠금 (DB lease 방식)
+ *
+ * 잠금은 lease 기간 동안만 유효하므로, 보유 인스턴스가 죽어도 기간이 지나면 다른 인스턴스가 가져감
+ * 작업이 lease보다 오래 걸리면 다른 인스턴스와 겹칠 수 있으므로 작업 자체도 중복 실행에 안전해야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final ClusterEventBus clusterEventBus;
+
+    /**
+     * 잠금 획득 시도 (즉시 커밋)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String lockName, Duration lease) {
+        schedulerLockRepository.ensureExists(lockName);
+        return schedulerLockRepository.tryAcquire(lockName, clusterEventBus.getNodeId(), lease.toMillis()) > 0;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String lockName) {
+        schedulerLockRepository.release(lockName, clusterEventBus.getNodeId());
+    }
+}
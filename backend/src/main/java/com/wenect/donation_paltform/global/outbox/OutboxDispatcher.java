@@ -0,0 +1,97 @@
+package com.wenect.donation_paltform.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 메시지 비동기 처리기
+ *
+ * - 커밋된 메시지를 배치로 선점해 핸들러를 실행하고 완료 표시 (at-least-once)
+ * - 선점 후 인스턴스가 죽으면 선점 기간이 지나 다른 인스턴스가 다시 처리
+ * - 실패 시 지수 백오프(최대 1시간)로 재시도, MAX_ATTEMPTS 초과 시 DEAD로 남김
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int LEASE_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long MAX_BACKOFF_SECONDS = 3_600;
+    private static final int RETENTION_DAYS = 7;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final Map<String, OutboxHandler> handlers;
+
+    public OutboxDispatcher(OutboxMessageRepository outboxMessageRepository, List<OutboxHandler> handlers) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxHandler::name, Function.identity()));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:500}")
+    public void dispatch() {
+        try {
+            // 한 번에 배치 하나씩, 가득 찬 배치면 이어서 처리
+            while (dispatchBatch() == BATCH_SIZE) {
+                // continue
+            }
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 처리 실패", e);
+        }
+    }
+
+    private int dispatchBatch() {
+        String token = UUID.randomUUID().toString();
+        int claimed = outboxMessageRepository.claimBatch(token, LEASE_SECONDS, BATCH_SIZE);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        List<Long> done = new ArrayList<>();
+        for (OutboxMessage message : outboxMessageRepository.findByClaimTokenOrderByMessageIdAsc(token)) {
+            OutboxHandler handler = handlers.get(message.getHandler());
+            try {
+                if (handler == null) {
+                    throw new IllegalStateException("등록되지 않은 아웃박스 핸들러: " + message.getHandler());
+                }
+                handler.handle(message.getPayload());
+                done.add(message.getMessageId());
+            } catch (Exception e) {
+                long delay = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(message.getAttempts() + 1, 20));
+                log.warn("아웃박스 메시지 처리 실패 - messageId: {}, handler: {}, attempts: {}, {}초 후 재시도",
+                        message.getMessageId(), message.getHandler(), message.getAttempts() + 1, delay, e);
+                outboxMessageRepository.markFailed(message.getMessageId(), truncate(String.valueOf(e.getMessage())),
+                        delay, MAX_ATTEMPTS);
+            }
+        }
+
+        if (!done.isEmpty()) {
+            outboxMessageRepository.markDone(done);
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리 완료된 오래된 메시지 정리
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 300_000)
+    public void purge() {
+        int deleted;
+        do {
+            deleted = outboxMessageRepository.deleteProcessedBefore(RETENTION_DAYS, 5_000);
+        } while (deleted == 5_000);
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
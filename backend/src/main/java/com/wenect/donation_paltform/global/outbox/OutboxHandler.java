@@ -0,0 +1,22 @@
+package com.wenect.donation_paltform.global.outbox;
+
+/**
+ * 아웃박스 메시지 처리기
+ *
+ * 같은 메시지가 두 번 이상 전달될 수 있으므로(at-least-once) 중복 처리를 감안해 구현
+ * 예외를 던지면 지수 백오프로 재시도
+ */
+public interface OutboxHandler {
+
+    /**
+     * 처리할 이벤트 종류
+     */
+    String eventType();
+
+    /**
+     * 핸들러 이름 (메시지 행에 저장되므로 바꾸지 않음)
+     */
+    String name();
+
+    void handle(String payload) throws Exception;
+}
@@ -0,0 +1,91 @@
+package com.wenect.donation_paltform.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 메시지 (outbox_messages)
+ *
+ * 업무 트랜잭션 안에서 후속 처리(알림, 영수증, 통계 등)를 행으로 남기고,
+ * OutboxDispatcher가 커밋된 행을 모아 핸들러별로 처리
+ * 이벤트 하나에 핸들러가 여럿이면 핸들러마다 한 행씩 저장 (재시도도 핸들러 단위)
+ */
+@Entity
+@Table(
+        name = "outbox_messages",
+        indexes = {
+                @Index(name = "IDX_outbox_status_available", columnList = "status, available_at"),
+                @Index(name = "IDX_outbox_claim_token", columnList = "claim_token")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "message_id")
+    private Long messageId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    // 처리할 핸들러 이름 (OutboxHandler.name)
+    @Column(name = "handler", nullable = false, length = 100)
+    private String handler;
+
+    // 이벤트 대상 ID (기부 ID 등, 추적용)
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 이 시각 이후에 처리 (재시도 대기)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 처리 중인 배치 토큰과 선점 만료 시각 (만료되면 다른 인스턴스가 다시 가져감)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (availableAt == null) {
+            availableAt = createdAt;
+        }
+    }
+
+    public enum OutboxStatus {
+        PENDING,  // 처리 대기 (재시도 포함)
+        DONE,     // 처리 완료
+        DEAD      // 최대 재시도 초과 (수동 확인 필요)
+    }
+}
@@ -0,0 +1,68 @@
+package com.wenect.donation_paltform.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 처리 가능한 메시지를 배치 토큰으로 선점 (선점 기간 동안 다른 인스턴스는 가져가지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE outbox_messages " +
+            "SET claim_token = :token, claimed_until = NOW(6) + INTERVAL :leaseSeconds SECOND " +
+            "WHERE status = 'PENDING' AND available_at <= NOW(6) " +
+            "  AND (claimed_until IS NULL OR claimed_until < NOW(6)) " +
+            "ORDER BY message_id LIMIT :limit",
+            nativeQuery = true)
+    int claimBatch(@Param("token") String token,
+                   @Param("leaseSeconds") int leaseSeconds,
+                   @Param("limit") int limit);
+
+    List<OutboxMessage> findByClaimTokenOrderByMessageIdAsc(String claimToken);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE outbox_messages " +
+            "SET status = 'DONE', processed_at = NOW(6), claim_token = NULL, claimed_until = NULL " +
+            "WHERE message_id IN (:messageIds)",
+            nativeQuery = true)
+    int markDone(@Param("messageIds") Collection<Long> messageIds);
+
+    /**
+     * 실패 기록 후 재시도 예약 (최대 시도 횟수에 도달하면 DEAD)
+     * MySQL은 SET을 왼쪽부터 적용하므로 status를 attempts보다 먼저 계산
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE outbox_messages " +
+            "SET status = IF(attempts + 1 >= :maxAttempts, 'DEAD', 'PENDING'), " +
+            "    attempts = attempts + 1, " +
+            "    last_error = :error, " +
+            "    available_at = NOW(6) + INTERVAL :delaySeconds SECOND, " +
+            "    claim_token = NULL, claimed_until = NULL " +
+            "WHERE message_id = :messageId",
+            nativeQuery = true)
+    int markFailed(@Param("messageId") Long messageId,
+                   @Param("error") String error,
+                   @Param("delaySeconds") long delaySeconds,
+                   @Param("maxAttempts") int maxAttempts);
+
+    // 처리 완료 후 보관 기간이 지난 메시지 삭제
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM outbox_messages " +
+            "WHERE status = 'DONE' AND processed_at < NOW(6) - INTERVAL :retentionDays DAY " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    int deleteProcessedBefore(@Param("retentionDays") int retentionDays, @Param("limit") int limit);
+}
@@ -0,0 +1,64 @@
+package com.wenect.donation_paltform.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 메시지 저장
+ * 호출한 업무 트랜잭션과 함께 커밋되어야 하므로 트랜잭션 안에서만 호출 가능
+ */
+@Slf4j
+@Service
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+    // 이벤트 종류별 핸들러 이름
+    private final Map<String, List<String>> handlerNamesByType;
+
+    public OutboxService(OutboxMessageRepository outboxMessageRepository,
+                         ObjectMapper objectMapper,
+                         List<OutboxHandler> handlers) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+        this.handlerNamesByType = handlers.stream()
+                .collect(Collectors.groupingBy(OutboxHandler::eventType,
+                        Collectors.mapping(OutboxHandler::name, Collectors.toList())));
+    }
+
+    /**
+     * 이벤트를 처리할 핸들러마다 메시지 한 행씩 저장
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, Long aggregateId, Object payload) {
+        List<String> handlerNames = handlerNamesByType.getOrDefault(eventType, List.of());
+        if (handlerNames.isEmpty()) {
+            log.debug("아웃박스 핸들러 없음 - eventType: {}", eventType);
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 변환 실패: " + eventType, e);
+        }
+
+        for (String handlerName : handlerNames) {
+            outboxMessageRepository.save(OutboxMessage.builder()
+                    .eventType(eventType)
+                    .handler(handlerName)
+                    .aggregateId(aggregateId)
+                    .payload(json)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.wenect.donation_paltform.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서 인코딩/디코딩 유틸리티
+ * - 마지막 행의 정렬 키 값들을 "값1|값2" 형태로 이어 붙인 뒤 URL-safe Base64로 인코딩
+ * - 클라이언트는 커서를 불투명한 문자열로 취급하고 다음 요청에 그대로 전달
+ */
+public final class CursorUtils {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtils() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     */
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값 배열로 디코딩
+     *
+     * @param cursor 클라이언트가 전달한 커서
+     * @param expectedParts 정렬 키 개수
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+        }
+
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다");
+        }
+        return parts;
+    }
+}
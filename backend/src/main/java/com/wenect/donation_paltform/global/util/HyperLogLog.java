@@ -0,0 +1,197 @@
+package com.wenect.donation_paltform.global.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog 고유 개수 추정 스케치
+ *
+ * 2^precision 개의 레지스터에 "해시의 앞쪽 0 개수 + 1"의 최댓값만 기록
+ * - 같은 값을 여러 번 넣어도 결과가 같음 (중복 반영 무해)
+ * - 레지스터별 최댓값으로 병합 가능 (프로젝트별 → 전체 합산, 노드 간 병합)
+ * - 표준 오차 ≈ 1.04 / sqrt(2^precision), precision 11이면 약 2.3%
+ *
+ * 직렬화는 채워진 레지스터가 적으면 (인덱스, 값) 목록(sparse), 많으면 레지스터 배열 그대로(dense)
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 11;
+
+    private static final byte ENCODING_DENSE = 1;
+    private static final byte ENCODING_SPARSE = 2;
+    private static final int HEADER_BYTES = 2;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision은 4~16 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * 값 추가
+     *
+     * @return 레지스터가 바뀌었으면 true
+     */
+    public boolean add(String value) {
+        return addHash(hash64(value));
+    }
+
+    /**
+     * 64비트 해시 추가 (상위 precision 비트 = 레지스터 위치, 나머지 = 앞쪽 0 개수)
+     */
+    public boolean addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 다른 스케치를 합침 (레지스터별 최댓값)
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 스케치는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 고유 개수 추정
+     * 작은 범위(빈 레지스터가 남아 있고 추정치가 2.5m 이하)는 linear counting으로 보정
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==================== 직렬화 ====================
+
+    /**
+     * [인코딩 1바이트][precision 1바이트] + 본문
+     * - sparse: [개수 2바이트] + ([인덱스 2바이트][값 1바이트]) * 개수
+     * - dense : 레지스터 배열
+     */
+    public byte[] toBytes() {
+        int filled = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                filled++;
+            }
+        }
+
+        if (2 + filled * SPARSE_ENTRY_BYTES < registers.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 2 + filled * SPARSE_ENTRY_BYTES);
+            buffer.put(ENCODING_SPARSE).put((byte) precision).putShort((short) filled);
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + registers.length);
+        buffer.put(ENCODING_DENSE).put((byte) precision).put(registers);
+        return buffer.array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_BYTES) {
+            throw new IllegalArgumentException("HyperLogLog 직렬화 데이터가 올바르지 않습니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte encoding = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+
+        if (encoding == ENCODING_DENSE) {
+            if (buffer.remaining() != sketch.registers.length) {
+                throw new IllegalArgumentException("HyperLogLog 레지스터 길이가 올바르지 않습니다.");
+            }
+            buffer.get(sketch.registers);
+        } else if (encoding == ENCODING_SPARSE) {
+            int count = Short.toUnsignedInt(buffer.getShort());
+            if (buffer.remaining() != count * SPARSE_ENTRY_BYTES) {
+                throw new IllegalArgumentException("HyperLogLog 레지스터 길이가 올바르지 않습니다.");
+            }
+            for (int i = 0; i < count; i++) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                sketch.registers[index] = buffer.get();
+            }
+        } else {
+            throw new IllegalArgumentException("알 수 없는 HyperLogLog 인코딩: " + encoding);
+        }
+        return sketch;
+    }
+
+    // ==================== 내부 ====================
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * UTF-8 바이트의 FNV-1a 64비트 해시 + MurmurHash3 fmix64 (상위 비트까지 고르게 섞기 위함)
+     */
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
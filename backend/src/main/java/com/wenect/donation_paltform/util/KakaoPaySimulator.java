@@ -0,0 +1,292 @@
+package com.wenect.donation_paltform.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 카카오페이 대역 서버 (결제 준비/승인/주문 조회 API만 구현)
+ *
+ * 실제 카카오페이 없이 준비 → 성공 콜백 → 승인 흐름을 돌려보기 위한 용도
+ * - POST /online/v1/payment/ready   : tid 발급, next_redirect_pc_url에 approval_url + pg_token을 담아 반환
+ * - POST /online/v1/payment/approve : tid/pg_token 확인 후 승인 응답
+ * - POST /online/v1/payment/order   : tid의 결제 상태 (READY / SUCCESS_PAYMENT)
+ * - 지연(고정 + 랜덤)과 5xx 오류, 응답 없음(타임아웃) 비율을 옵션으로 주입
+ *
+ * 실행: ./gradlew runPgSimulator --args="--port=9090 --latency-ms=200 --jitter-ms=100 --error-rate=0.01"
+ * 백엔드의 application-pay.yml에서 ready-url/approve-url/order-url을 http://localhost:9090/online/v1/payment/... 로 지정
+ */
+public class KakaoPaySimulator {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final double timeoutRate;
+
+    // tid -> 준비 요청 정보 (승인 시 검증용)
+    private final Map<String, ReadyState> readyStates = new ConcurrentHashMap<>();
+    // tid -> 승인 응답 (주문 조회용)
+    private final Map<String, Map<String, Object>> approvedOrders = new ConcurrentHashMap<>();
+    private final AtomicLong readyCount = new AtomicLong();
+    private final AtomicLong approveCount = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public KakaoPaySimulator(long latencyMs, long jitterMs, double errorRate, double timeoutRate) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArgs(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "9090"));
+        KakaoPaySimulator simulator = new KakaoPaySimulator(
+                Long.parseLong(options.getOrDefault("latency-ms", "100")),
+                Long.parseLong(options.getOrDefault("jitter-ms", "50")),
+                Double.parseDouble(options.getOrDefault("error-rate", "0")),
+                Double.parseDouble(options.getOrDefault("timeout-rate", "0")));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/online/v1/payment/ready", simulator::handleReady);
+        server.createContext("/online/v1/payment/approve", simulator::handleApprove);
+        server.createContext("/online/v1/payment/order", simulator::handleOrder);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        System.out.println("=== 카카오페이 시뮬레이터 시작 - port: " + port + " ===");
+        System.out.printf("지연: %dms (+0~%dms), 오류율: %.3f, 타임아웃율: %.3f%n",
+                simulator.latencyMs, simulator.jitterMs, simulator.errorRate, simulator.timeoutRate);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(0);
+            System.out.printf("%n준비 %d건, 승인 %d건, 주입 오류 %d건%n",
+                    simulator.readyCount.get(), simulator.approveCount.get(), simulator.injectedErrors.get());
+        }));
+    }
+
+    // ==================== 핸들러 ====================
+
+    private void handleReady(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, Map.of("error_code", -405, "error_message", "method not allowed"));
+                return;
+            }
+            if (injectFault(exchange)) {
+                return;
+            }
+
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            String tid = "T" + UUID.randomUUID().toString().replace("-", "").substring(0, 19);
+            String pgToken = UUID.randomUUID().toString().replace("-", "").substring(0, 20);
+            String createdAt = LocalDateTime.now().format(TIME_FORMAT);
+
+            readyStates.put(tid, new ReadyState(
+                    pgToken,
+                    body.path("cid").asText(),
+                    body.path("partner_order_id").asText(),
+                    body.path("partner_user_id").asText(),
+                    body.path("item_name").asText(),
+                    body.path("total_amount").asInt(),
+                    createdAt));
+            readyCount.incrementAndGet();
+
+            // 실제 결제 화면 대신 바로 approval_url로 돌아오는 주소를 내려줌
+            String approvalUrl = body.path("approval_url").asText();
+            String redirectUrl = approvalUrl + (approvalUrl.contains("?") ? "&" : "?") + "pg_token=" + pgToken;
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("tid", tid);
+            response.put("next_redirect_app_url", redirectUrl);
+            response.put("next_redirect_mobile_url", redirectUrl);
+            response.put("next_redirect_pc_url", redirectUrl);
+            response.put("android_app_scheme", "kakaotalk://simulator");
+            response.put("ios_app_scheme", "kakaotalk://simulator");
+            response.put("created_at", createdAt);
+            send(exchange, 200, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleApprove(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, Map.of("error_code", -405, "error_message", "method not allowed"));
+                return;
+            }
+            if (injectFault(exchange)) {
+                return;
+            }
+
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            String tid = body.path("tid").asText();
+            ReadyState state = readyStates.get(tid);
+            if (state == null || !state.pgToken().equals(body.path("pg_token").asText())) {
+                send(exchange, 400, Map.of("error_code", -780, "error_message", "invalid tid or pg_token"));
+                return;
+            }
+            // 같은 tid는 한 번만 승인 (중복 승인 시 실제 PG처럼 오류)
+            if (!readyStates.remove(tid, state)) {
+                send(exchange, 400, Map.of("error_code", -702, "error_message", "payment already done"));
+                return;
+            }
+            approveCount.incrementAndGet();
+
+            Map<String, Object> amount = new LinkedHashMap<>();
+            amount.put("total", state.totalAmount());
+            amount.put("tax_free", 0);
+            amount.put("vat", state.totalAmount() / 11);
+            amount.put("point", 0);
+            amount.put("discount", 0);
+            amount.put("green_deposit", 0);
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("aid", "A" + UUID.randomUUID().toString().replace("-", "").substring(0, 19));
+            response.put("tid", tid);
+            response.put("cid", state.cid());
+            response.put("partner_order_id", state.partnerOrderId());
+            response.put("partner_user_id", state.partnerUserId());
+            response.put("payment_method_type", "MONEY");
+            response.put("amount", amount);
+            response.put("item_name", state.itemName());
+            response.put("quantity", 1);
+            response.put("created_at", state.createdAt());
+            response.put("approved_at", LocalDateTime.now().format(TIME_FORMAT));
+            approvedOrders.put(tid, response);
+            send(exchange, 200, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleOrder(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, Map.of("error_code", -405, "error_message", "method not allowed"));
+                return;
+            }
+            if (injectFault(exchange)) {
+                return;
+            }
+
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            String tid = body.path("tid").asText();
+            Map<String, Object> approved = approvedOrders.get(tid);
+            ReadyState state = readyStates.get(tid);
+            if (approved == null && state == null) {
+                send(exchange, 400, Map.of("error_code", -780, "error_message", "invalid tid"));
+                return;
+            }
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("tid", tid);
+            if (approved != null) {
+                response.put("cid", approved.get("cid"));
+                response.put("status", "SUCCESS_PAYMENT");
+                response.put("partner_order_id", approved.get("partner_order_id"));
+                response.put("partner_user_id", approved.get("partner_user_id"));
+                response.put("payment_method_type", approved.get("payment_method_type"));
+                response.put("amount", approved.get("amount"));
+                response.put("payment_action_details", List.of(Map.of(
+                        "aid", approved.get("aid"),
+                        "payment_action_type", "PAYMENT",
+                        "amount", ((Map<?, ?>) approved.get("amount")).get("total"))));
+            } else {
+                response.put("cid", state.cid());
+                response.put("status", "READY");
+                response.put("partner_order_id", state.partnerOrderId());
+                response.put("partner_user_id", state.partnerUserId());
+                response.put("payment_action_details", List.of());
+            }
+            send(exchange, 200, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ==================== 지연/오류 주입 ====================
+
+    /**
+     * 설정된 지연을 적용하고, 확률에 따라 응답 없음 또는 5xx 응답으로 대체
+     *
+     * @return 장애를 주입해 응답을 이미 처리했으면 true
+     */
+    private boolean injectFault(HttpExchange exchange) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (timeoutRate > 0 && random.nextDouble() < timeoutRate) {
+            injectedErrors.incrementAndGet();
+            // 클라이언트 응답 타임아웃보다 길게 붙잡아 둠
+            sleep(30_000);
+            send(exchange, 504, Map.of("error_code", -504, "error_message", "simulated timeout"));
+            return true;
+        }
+
+        sleep(latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0));
+
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            send(exchange, 500, Map.of("error_code", -9798, "error_message", "simulated internal error"));
+            return true;
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * "--key=value" 형식의 인자를 맵으로 변환
+     */
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private record ReadyState(String pgToken, String cid, String partnerOrderId, String partnerUserId,
+                              String itemName, int totalAmount, String createdAt) {
+    }
+}
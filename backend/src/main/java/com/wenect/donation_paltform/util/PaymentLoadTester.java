@@ -0,0 +1,273 @@
+package com.wenect.donation_paltform.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 경로 부하 테스트 (준비 → 성공 콜백(승인))
+ *
+ * 목표 초당 요청 수로 /api/payments/kakao/ready 를 호출하고, 응답의 리다이렉트 URL에서
+ * orderId/pg_token을 꺼내 /api/payments/kakao/success 까지 이어서 호출
+ * (KakaoPaySimulator를 PG로 띄운 상태에서 사용)
+ *
+ * 응답을 기다리지 않고 일정 간격으로 요청을 보내므로(open model) 서버가 느려져도 부하가 줄지 않음
+ * 결과: 처리량, 단계별 지연 백분위, 실패 수, (DB 접속 정보가 있으면) InnoDB 행 잠금 대기 증가량
+ *
+ * 실행: ./gradlew paymentLoadTest --args="--base-url=http://localhost:8080 --project-id=1 --rate=200 --duration=60"
+ * DB 잠금 통계: --jdbc-url=jdbc:mysql://... --db-user=... --db-password=...
+ */
+public class PaymentLoadTester {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final long projectId;
+    private final int amount;
+
+    private final ConcurrentLinkedQueue<Long> readyLatencies = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> approveLatencies = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> totalLatencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong readyFailures = new AtomicLong();
+    private final AtomicLong approveFailures = new AtomicLong();
+    private final Map<String, AtomicLong> failureReasons = new ConcurrentHashMap<>();
+
+    public PaymentLoadTester(String baseUrl, long projectId, int amount) {
+        this.baseUrl = baseUrl;
+        this.projectId = projectId;
+        this.amount = amount;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = KakaoPaySimulator.parseArgs(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        long projectId = Long.parseLong(options.getOrDefault("project-id", "1"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "50"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int amount = Integer.parseInt(options.getOrDefault("amount", "1000"));
+        String jdbcUrl = options.get("jdbc-url");
+
+        PaymentLoadTester tester = new PaymentLoadTester(baseUrl, projectId, amount);
+
+        System.out.println("=== 결제 부하 테스트 시작 ===");
+        System.out.printf("대상: %s, 프로젝트: %d, 목표: %d req/s × %ds%n", baseUrl, projectId, rate, durationSeconds);
+
+        Map<String, Long> lockStatsBefore = jdbcUrl != null
+                ? readRowLockStats(jdbcUrl, options.get("db-user"), options.get("db-password"))
+                : Map.of();
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> flows = tester.run(rate, durationSeconds);
+        CompletableFuture.allOf(flows.toArray(new CompletableFuture[0]))
+                .orTimeout(durationSeconds + 60L, TimeUnit.SECONDS)
+                .exceptionally(e -> null)
+                .join();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        tester.printReport(flows.size(), elapsedSeconds);
+
+        if (jdbcUrl != null) {
+            Map<String, Long> lockStatsAfter = readRowLockStats(jdbcUrl, options.get("db-user"), options.get("db-password"));
+            printLockStats(lockStatsBefore, lockStatsAfter);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 목표 비율로 결제 흐름을 시작 (응답과 무관하게 일정 간격으로 발사)
+     */
+    private List<CompletableFuture<Void>> run(int rate, int durationSeconds) throws InterruptedException {
+        List<CompletableFuture<Void>> flows = Collections.synchronizedList(new ArrayList<>());
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = 1_000_000_000L / Math.max(1, rate);
+
+        ticker.scheduleAtFixedRate(() -> flows.add(startFlow()), 0, periodNanos, TimeUnit.NANOSECONDS);
+        ticker.awaitTermination(durationSeconds, TimeUnit.SECONDS);
+        ticker.shutdownNow();
+        return new ArrayList<>(flows);
+    }
+
+    private CompletableFuture<Void> startFlow() {
+        long flowStart = System.nanoTime();
+        String body = String.format(
+                "{\"projectId\":%d,\"amount\":%d,\"donorName\":\"부하테스트\",\"paymentMethod\":\"KAKAO_PAY\",\"isAnonymous\":true}",
+                projectId, amount);
+        HttpRequest ready = HttpRequest.newBuilder(URI.create(baseUrl + "/api/payments/kakao/ready"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        return httpClient.sendAsync(ready, HttpResponse.BodyHandlers.ofString())
+                .thenCompose(response -> {
+                    readyLatencies.add(System.nanoTime() - flowStart);
+                    if (response.statusCode() != 200) {
+                        readyFailures.incrementAndGet();
+                        countFailure("ready " + response.statusCode());
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return approve(response.body(), flowStart);
+                })
+                .exceptionally(e -> {
+                    readyFailures.incrementAndGet();
+                    countFailure("ready " + rootCause(e).getClass().getSimpleName());
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> approve(String readyBody, long flowStart) {
+        Map<String, String> query;
+        try {
+            JsonNode json = objectMapper.readTree(readyBody);
+            query = parseQuery(URI.create(json.path("next_redirect_pc_url").asText()).getRawQuery());
+        } catch (Exception e) {
+            approveFailures.incrementAndGet();
+            countFailure("redirect url parse");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long approveStart = System.nanoTime();
+        String url = baseUrl + "/api/payments/kakao/success?pg_token=" + query.get("pg_token")
+                + "&orderId=" + query.get("orderId");
+        HttpRequest success = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(success, HttpResponse.BodyHandlers.discarding())
+                .thenAccept(response -> {
+                    long now = System.nanoTime();
+                    approveLatencies.add(now - approveStart);
+                    if (response.statusCode() == 200) {
+                        totalLatencies.add(now - flowStart);
+                    } else {
+                        approveFailures.incrementAndGet();
+                        countFailure("success " + response.statusCode());
+                    }
+                })
+                .exceptionally(e -> {
+                    approveFailures.incrementAndGet();
+                    countFailure("success " + rootCause(e).getClass().getSimpleName());
+                    return null;
+                });
+    }
+
+    // ==================== 결과 ====================
+
+    private void printReport(int started, double elapsedSeconds) {
+        System.out.println("\n=== 결과 ===");
+        System.out.printf("시작한 결제 흐름: %d건 (%.1fs)%n", started, elapsedSeconds);
+        System.out.printf("완료(승인 성공): %d건, 처리량 %.1f건/s%n",
+                totalLatencies.size(), totalLatencies.size() / elapsedSeconds);
+        System.out.printf("실패: 준비 %d건, 승인 %d건%n", readyFailures.get(), approveFailures.get());
+        failureReasons.forEach((reason, count) -> System.out.printf("  - %s: %d건%n", reason, count.get()));
+
+        System.out.printf("%n%-12s %8s %8s %8s %8s %8s%n", "단계", "p50", "p90", "p99", "p99.9", "max");
+        System.out.println("-".repeat(60));
+        printPercentiles("ready", readyLatencies);
+        printPercentiles("success", approveLatencies);
+        printPercentiles("전체", totalLatencies);
+    }
+
+    private static void printPercentiles(String label, ConcurrentLinkedQueue<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        if (sorted.isEmpty()) {
+            System.out.printf("%-12s %8s%n", label, "-");
+            return;
+        }
+        Collections.sort(sorted);
+        System.out.printf("%-12s %6dms %6dms %6dms %6dms %6dms%n", label,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.90),
+                percentileMillis(sorted, 0.99), percentileMillis(sorted, 0.999),
+                sorted.get(sorted.size() - 1) / 1_000_000);
+    }
+
+    static long percentileMillis(List<Long> sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, Math.min(index, sortedNanos.size() - 1))) / 1_000_000;
+    }
+
+    /**
+     * InnoDB 행 잠금 통계 (서버 전체 누적값이므로 테스트 전후 차이로 봄)
+     */
+    private static Map<String, Long> readRowLockStats(String jdbcUrl, String user, String password) {
+        Map<String, Long> stats = new HashMap<>();
+        try (Connection conn = DriverManager.getConnection(jdbcUrl, user, password);
+             Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock%'")) {
+            while (rs.next()) {
+                stats.put(rs.getString(1), rs.getLong(2));
+            }
+        } catch (SQLException e) {
+            System.err.println("DB 잠금 통계 조회 실패: " + e.getMessage());
+        }
+        return stats;
+    }
+
+    private static void printLockStats(Map<String, Long> before, Map<String, Long> after) {
+        long waits = after.getOrDefault("Innodb_row_lock_waits", 0L) - before.getOrDefault("Innodb_row_lock_waits", 0L);
+        long waitTime = after.getOrDefault("Innodb_row_lock_time", 0L) - before.getOrDefault("Innodb_row_lock_time", 0L);
+        System.out.println("\n=== DB 행 잠금 (테스트 중 증가량) ===");
+        System.out.printf("잠금 대기: %d회, 총 대기 시간: %dms, 평균: %.1fms, 현재 대기 중: %d%n",
+                waits, waitTime, waits > 0 ? (double) waitTime / waits : 0.0,
+                after.getOrDefault("Innodb_row_lock_current_waits", 0L));
+    }
+
+    // ==================== 유틸 ====================
+
+    private void countFailure(String reason) {
+        failureReasons.computeIfAbsent(reason, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
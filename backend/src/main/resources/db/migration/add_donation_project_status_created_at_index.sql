@@ -0,0 +1,5 @@
+-- Donor list keyset: "WHERE project_id = ? AND status = 'COMPLETED'
+-- [AND (created_at, donation_id) < (?, ?)] ORDER BY created_at DESC, donation_id DESC LIMIT n"
+-- is a backward range scan that stops after n + 1 rows
+CREATE INDEX IDX_donations_project_status_created_at
+    ON donations (project_id, status, created_at, donation_id);
@@ -0,0 +1,4 @@
+-- PendingDonationReaper: "WHERE status = 'PENDING' AND created_at < ? ORDER BY created_at LIMIT n"
+-- reads only the expired PENDING range instead of scanning the table
+CREATE INDEX IDX_donations_status_created_at
+    ON donations (status, created_at);
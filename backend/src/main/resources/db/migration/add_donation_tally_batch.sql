@@ -0,0 +1,23 @@
+-- Batch id written by DonationTallyService when a COMPLETED donation has been added to
+-- projects.current_amount / donor_count (NULL = approved but not yet tallied)
+ALTER TABLE donations
+    ADD COLUMN tally_batch VARCHAR(36) NULL;
+
+-- Completed rows that exist before the switch are counted by the rebuild below, so mark them tallied.
+-- PENDING rows stay NULL and are tallied by DonationTallyService once they are approved
+UPDATE donations SET tally_batch = 'legacy' WHERE tally_batch IS NULL AND status = 'COMPLETED';
+
+-- Rebuild the counters from completed donations once, dropping drift left by the old
+-- read-modify-write path (lost updates under concurrent approvals)
+UPDATE projects p
+    LEFT JOIN (SELECT project_id, SUM(amount) AS total, COUNT(*) AS cnt
+               FROM donations
+               WHERE status = 'COMPLETED'
+               GROUP BY project_id) d ON d.project_id = p.project_id
+SET p.current_amount = COALESCE(d.total, 0),
+    p.donor_count = COALESCE(d.cnt, 0);
+
+-- Pending scan ("tally_batch IS NULL AND status = 'COMPLETED' ORDER BY donation_id")
+-- and batch lookup ("tally_batch = ?") both use this index
+CREATE INDEX IDX_donations_tally_batch
+    ON donations (tally_batch, status);
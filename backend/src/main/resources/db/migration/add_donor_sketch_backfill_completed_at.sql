@@ -0,0 +1,8 @@
+-- Backfill completion marker for the 'global' donor sketch (DonorSketchService)
+-- The 'global' row is created before the backfill scan so that concurrently tallied donations are merged into it;
+-- the backfill only counts as done once this column is set after the last merge chunk
+-- Set NULL (or delete the row) to rebuild all sketches
+ALTER TABLE donor_sketches
+    ADD COLUMN backfill_completed_at DATETIME(6) NULL;
+
+-- Existing deployments: a 'global' row left by an interrupted backfill stays NULL and is backfilled again
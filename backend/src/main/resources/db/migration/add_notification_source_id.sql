@@ -0,0 +1,7 @@
+-- Id of the row a notification was created from (donation_id for donation notifications).
+-- The outbox delivers at least once, so a redelivered DONATION_COMPLETED message must not
+-- create a second notification: (user_id, type, source_id) is unique. Rows without a source
+-- keep NULL, which MySQL allows any number of times in a unique index
+ALTER TABLE notifications
+    ADD COLUMN source_id BIGINT NULL,
+    ADD CONSTRAINT UK_notifications_user_type_source UNIQUE (user_id, type, source_id);
@@ -0,0 +1,5 @@
+-- Notification inbox keyset: "WHERE user_id = ? AND is_archived = false
+-- [AND (created_at, notification_id) < (?, ?)] ORDER BY created_at DESC, notification_id DESC LIMIT n"
+-- is a backward range scan on this index that stops after n + 1 matching rows
+CREATE INDEX IDX_notifications_user_created_at
+    ON notifications (user_id, created_at, notification_id);
@@ -0,0 +1,16 @@
+-- Denormalized favorite counter maintained by FavoriteProjectService.toggleFavorite
+-- (atomic "favorite_count = favorite_count +/- 1" in the same transaction as the favorite row)
+ALTER TABLE projects
+    ADD COLUMN favorite_count INT NOT NULL DEFAULT 0;
+
+-- Backfill from existing favorites
+UPDATE projects p
+    JOIN (SELECT project_id, COUNT(*) AS cnt
+          FROM favorite_projects
+          GROUP BY project_id) f ON f.project_id = p.project_id
+SET p.favorite_count = f.cnt;
+
+-- Popular rail: "WHERE status = 'ACTIVE' AND favorite_count > 0
+-- ORDER BY favorite_count DESC, project_id DESC LIMIT n" is a backward range scan
+CREATE INDEX IDX_projects_status_favorite_count
+    ON projects (status, favorite_count, project_id);
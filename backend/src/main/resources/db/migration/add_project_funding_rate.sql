@@ -0,0 +1,13 @@
+-- Persisted funding rate for the "fundingRate" (most funded) sort
+-- STORED generated column: MySQL recomputes it whenever current_amount or target_amount changes,
+-- and a zero/negative target_amount yields 0 instead of a division error
+ALTER TABLE projects
+    ADD COLUMN funding_rate DECIMAL(12,4)
+        AS (IF(target_amount > 0, current_amount / target_amount, 0)) STORED;
+
+-- "ORDER BY funding_rate DESC, project_id DESC LIMIT n" becomes a backward index range scan
+CREATE INDEX IDX_projects_status_funding_rate
+    ON projects (status, funding_rate, project_id);
+
+CREATE INDEX IDX_projects_status_category_funding_rate
+    ON projects (status, category_id, funding_rate, project_id);
@@ -0,0 +1,17 @@
+-- Composite indexes for keyset (cursor) pagination on GET /api/projects
+-- Each index matches "WHERE status = ? [AND category_id = ?] ORDER BY <sort key>, project_id"
+-- so every page is an index range scan + LIMIT, independent of scroll depth
+
+-- latest: created_at DESC, project_id DESC
+CREATE INDEX IDX_projects_status_created
+    ON projects (status, created_at, project_id);
+
+CREATE INDEX IDX_projects_status_category_created
+    ON projects (status, category_id, created_at, project_id);
+
+-- deadline: end_date ASC, project_id ASC
+CREATE INDEX IDX_projects_status_end_date
+    ON projects (status, end_date, project_id);
+
+CREATE INDEX IDX_projects_status_category_end_date
+    ON projects (status, category_id, end_date, project_id);
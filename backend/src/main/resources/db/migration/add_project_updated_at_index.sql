@@ -0,0 +1,4 @@
+-- The in-process project search index periodically re-reads projects changed on other replicas
+-- ("WHERE updated_at >= ?"); without this index every sync is a full table scan
+CREATE INDEX IDX_projects_updated_at
+    ON projects (updated_at);
@@ -0,0 +1,11 @@
+-- Cross-replica event table polled by every backend instance (ClusterEventBus)
+-- Rows are short-lived: each instance deletes events older than 60 minutes
+CREATE TABLE IF NOT EXISTS cluster_events (
+    event_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    origin_node VARCHAR(100) NOT NULL,
+    event_type  VARCHAR(50)  NOT NULL,
+    payload     VARCHAR(1000) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (event_id),
+    INDEX IDX_cluster_events_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,10 @@
+-- HyperLogLog sketches for unique-donor estimates (DonorSketchService)
+-- sketch_key: 'project:{project_id}' per project, 'global' for the whole platform
+-- The 'global' row is created by the backfill job on first start; delete it to rebuild all sketches
+CREATE TABLE IF NOT EXISTS donor_sketches (
+    sketch_key VARCHAR(50)     NOT NULL,
+    registers  VARBINARY(4100) NOT NULL,
+    estimate   BIGINT          NOT NULL DEFAULT 0,
+    updated_at DATETIME(6)     NOT NULL,
+    PRIMARY KEY (sketch_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
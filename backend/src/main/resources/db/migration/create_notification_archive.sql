@@ -0,0 +1,25 @@
+-- Notification retention (NotificationRetentionJob)
+-- 1) "UPDATE ... WHERE is_archived = false AND is_read = true AND created_at < ? ORDER BY created_at LIMIT n"
+--    reads only the first n rows of IDX_notifications_retention
+-- 2) "SELECT ... WHERE created_at < ? ORDER BY created_at LIMIT n" reads only the first n rows of
+--    IDX_notifications_created_at; the rows are then copied to notification_archive (mode=archive) and deleted
+CREATE INDEX IDX_notifications_retention
+    ON notifications (is_archived, is_read, created_at);
+
+CREATE INDEX IDX_notifications_created_at
+    ON notifications (created_at);
+
+-- Compact copy of purged notifications (no message, link or metadata)
+CREATE TABLE IF NOT EXISTS notification_archive (
+    notification_id BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    type            VARCHAR(50)  NOT NULL,
+    category        VARCHAR(50)  NOT NULL,
+    title           VARCHAR(200) NOT NULL,
+    is_read         BIT(1)       NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    read_at         DATETIME(6)  NULL,
+    archived_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (notification_id),
+    INDEX IDX_notification_archive_user_created_at (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,10 @@
+-- Single-use tickets for the notification SSE stream (NotificationStreamTicketService).
+-- EventSource cannot send an Authorization header, so the client trades its JWT for a
+-- short-lived ticket and puts that in the stream URL instead of the long-lived token
+CREATE TABLE IF NOT EXISTS notification_stream_tickets (
+    ticket     VARCHAR(64) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (ticket),
+    INDEX IDX_notification_stream_tickets_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
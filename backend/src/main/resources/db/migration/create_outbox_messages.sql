@@ -0,0 +1,21 @@
+-- Transactional outbox: side effects (notifications, receipts, stats) are written in the same
+-- transaction as the business change and drained asynchronously by OutboxDispatcher.
+-- One row per (event, handler); rows stay claimed for 60s while a dispatcher works on them.
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    message_id    BIGINT        NOT NULL AUTO_INCREMENT,
+    event_type    VARCHAR(50)   NOT NULL,
+    handler       VARCHAR(100)  NOT NULL,
+    aggregate_id  BIGINT        NULL,
+    payload       TEXT          NOT NULL,
+    status        VARCHAR(20)   NOT NULL DEFAULT 'PENDING',
+    attempts      INT           NOT NULL DEFAULT 0,
+    available_at  DATETIME(6)   NOT NULL,
+    claim_token   VARCHAR(36)   NULL,
+    claimed_until DATETIME(6)   NULL,
+    last_error    VARCHAR(1000) NULL,
+    processed_at  DATETIME(6)   NULL,
+    created_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (message_id),
+    INDEX IDX_outbox_status_available (status, available_at),
+    INDEX IDX_outbox_claim_token (claim_token)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,9 @@
+-- Shared time-decayed trending scores (ProjectTrendingService)
+-- log_key = ln(score) + lambda * epoch_seconds; ordering by log_key equals ordering by current score
+CREATE TABLE IF NOT EXISTS project_trending_scores (
+    project_id BIGINT      NOT NULL,
+    log_key    DOUBLE      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (project_id),
+    INDEX IDX_trending_log_key (log_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,7 @@
+-- Lease-based lock for scheduled jobs that must run on one replica at a time (SchedulerLockService)
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    lock_name    VARCHAR(100) NOT NULL,
+    locked_by    VARCHAR(100) NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (lock_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,62 @@
+package com.wenect.donation_paltform.domain.project.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectTitleTrieTest {
+
+    private final ProjectTitleTrie trie = new ProjectTitleTrie(Map.of(
+            1L, "어린이 급식 지원",
+            2L, "유기견 보호소 겨울나기",
+            3L, "어르신 도시락 나눔",
+            4L, "Green Earth 캠페인"
+    ));
+
+    @Test
+    void matchesTitlePrefixAndWordPrefix() {
+        assertThat(trie.search("어린이", 10)).containsExactly(1L);
+        assertThat(trie.search("급식", 10)).containsExactly(1L);
+        assertThat(trie.search("어린이급식", 10)).containsExactly(1L);
+        assertThat(trie.search("green ea", 10)).containsExactly(4L);
+    }
+
+    @Test
+    void matchesChosung() {
+        assertThat(trie.search("ㅇㄹㅇ", 10)).containsExactly(1L);
+        assertThat(trie.search("ㅇㄹ", 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(trie.search("어ㄹㅅ", 10)).containsExactly(3L);
+    }
+
+    @Test
+    void matchesSyllableBeingComposed() {
+        assertThat(trie.search("어리", 10)).containsExactly(1L);
+        assertThat(trie.search("얼", 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(trie.search("유긱", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void respectsLimitAndIgnoresUnknown() {
+        assertThat(trie.search("ㅇ", 1)).hasSize(1);
+        assertThat(trie.search("없는제목", 10)).isEmpty();
+        assertThat(trie.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void addsAndRemovesTitlesWithoutChangingPreviousTrie() {
+        ProjectTitleTrie added = trie.withTitle(5L, "어린이 도서관 짓기");
+
+        assertThat(added.search("어린이", 10)).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(added.search("도서관", 10)).containsExactly(5L);
+        assertThat(trie.search("어린이", 10)).containsExactly(1L);
+
+        ProjectTitleTrie removed = added.withoutTitle(1L, "어린이 급식 지원");
+
+        assertThat(removed.search("어린이", 10)).containsExactly(5L);
+        assertThat(removed.search("급식", 10)).isEmpty();
+        assertThat(removed.search("ㅇㄹ", 10)).containsExactlyInAnyOrder(3L, 5L);
+        assertThat(added.search("급식", 10)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.wenect.donation_paltform.domain.project.service;
+
+import com.wenect.donation_paltform.domain.organization.service.OrganizationNameResolver;
+import com.wenect.donation_paltform.domain.project.dto.ProjectImagePathDto;
+import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
+import com.wenect.donation_paltform.domain.project.entity.Project;
+import com.wenect.donation_paltform.domain.project.repository.ProjectImageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectResponseAssemblerTest {
+
+    @Mock
+    private ProjectImageRepository projectImageRepository;
+
+    @Mock
+    private OrganizationNameResolver organizationNameResolver;
+
+    @InjectMocks
+    private ProjectResponseAssembler projectResponseAssembler;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 100})
+    void imagesAndOrgNamesAreLoadedOnceRegardlessOfPageSize(int pageSize) {
+        List<Project> projects = createProjects(pageSize);
+        List<ProjectImagePathDto> imagePaths = projects.stream()
+                .map(p -> new ProjectImagePathDto(p.getProjectId(), "/uploads/projects/images/" + p.getProjectId() + ".jpg"))
+                .collect(Collectors.toList());
+        given(projectImageRepository.findImagePathsByProjectIdIn(anyCollection())).willReturn(imagePaths);
+        given(organizationNameResolver.getOrgNames(anyCollection())).willReturn(Map.of(1L, "테스트 기관"));
+
+        List<ProjectResponse> responses = projectResponseAssembler.toResponses(projects);
+
+        assertThat(responses).hasSize(pageSize);
+        assertThat(responses).allSatisfy(response ->
+                assertThat(response.getImage())
+                        .isEqualTo("/uploads/projects/images/" + response.getProjectId() + ".jpg"));
+        assertThat(responses).allSatisfy(response ->
+                assertThat(response.getOrganization()).isEqualTo("테스트 기관"));
+        verify(projectImageRepository, times(1)).findImagePathsByProjectIdIn(anyCollection());
+        verify(projectImageRepository, never()).findByProjectIdOrderByDisplayOrder(anyLong());
+        verify(organizationNameResolver, times(1)).getOrgNames(anyCollection());
+    }
+
+    @Test
+    void emptyPageDoesNotQueryImages() {
+        List<ProjectResponse> responses = projectResponseAssembler.toResponses(List.of());
+
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(projectImageRepository, organizationNameResolver);
+    }
+
+    private List<Project> createProjects(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Project.builder()
+                        .projectId(id)
+                        .orgId(1L)
+                        .categoryId(1)
+                        .title("프로젝트 " + id)
+                        .description("설명")
+                        .targetAmount(new BigDecimal("1000000"))
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusDays(30))
+                        .status(Project.ProjectStatus.ACTIVE)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
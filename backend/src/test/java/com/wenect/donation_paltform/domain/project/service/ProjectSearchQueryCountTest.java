@@ -0,0 +1,120 @@
+package com.wenect.donation_paltform.domain.project.service;
+
+import com.wenect.donation_paltform.domain.donation.service.DonorSketchService;
+import com.wenect.donation_paltform.domain.organization.event.OrganizationChangedEvent;
+import com.wenect.donation_paltform.domain.organization.service.OrganizationNameResolver;
+import com.wenect.donation_paltform.domain.project.dto.ProjectResponse;
+import com.wenect.donation_paltform.domain.project.search.ProjectSearchIndex;
+import com.wenect.donation_paltform.domain.project.search.ProjectSuggestIndex;
+import com.wenect.donation_paltform.domain.project.trending.ProjectTrendingService;
+import com.wenect.donation_paltform.global.cluster.ClusterEventBus;
+import com.wenect.donation_paltform.global.common.PageResponse;
+import com.wenect.donation_paltform.global.service.FileStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회(DB 경로)의 SQL 실행 횟수가 페이지 크기와 무관한지 확인 (Hibernate 통계, H2 MySQL 모드)
+ * 로컬 application.properties의 MySQL 설정을 덮어쓰도록 데이터소스/방언을 모두 지정
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-query-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/project-query-count.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectService.class, ProjectResponseAssembler.class, OrganizationNameResolver.class,
+        ProjectSearchQueryCountTest.MetricsConfig.class})
+class ProjectSearchQueryCountTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private OrganizationNameResolver organizationNameResolver;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @MockitoBean
+    private DonationOptionService donationOptionService;
+
+    @MockitoBean
+    private ProjectSearchIndex projectSearchIndex;
+
+    @MockitoBean
+    private ProjectSuggestIndex projectSuggestIndex;
+
+    @MockitoBean
+    private ProjectTrendingService projectTrendingService;
+
+    @MockitoBean
+    private DonorSketchService donorSketchService;
+
+    @MockitoBean
+    private ClusterEventBus clusterEventBus;
+
+    @Test
+    void statementCountDoesNotDependOnPageSize() {
+        long singleRowStatements = countStatements(1);
+        long fullPageStatements = countStatements(50);
+
+        assertThat(fullPageStatements).isEqualTo(singleRowStatements);
+    }
+
+    /**
+     * 첫 페이지 조회 시 실행된 SQL 수 (영속성 컨텍스트와 기관명 사전을 비워 매번 같은 조건에서 측정)
+     */
+    private long countStatements(int size) {
+        entityManager.clear();
+        for (long orgId = 1; orgId <= 3; orgId++) {
+            organizationNameResolver.onOrganizationChanged(OrganizationChangedEvent.changed(orgId));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PageResponse<ProjectResponse> page = projectService.searchProjects(null, null, "latest", null, size);
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getContent()).allSatisfy(response -> {
+            assertThat(response.getOrganization()).startsWith("테스트 기관");
+            assertThat(response.getImage()).isNotNull();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
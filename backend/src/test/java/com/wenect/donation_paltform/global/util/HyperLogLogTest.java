@@ -0,0 +1,67 @@
+package com.wenect.donation_paltform.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void countsSmallSetsExactlyEnough() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.estimate()).isZero();
+
+        for (int i = 0; i < 10; i++) {
+            sketch.add("u:" + i);
+            sketch.add("u:" + i);
+        }
+        assertThat(sketch.estimate()).isEqualTo(10);
+    }
+
+    @Test
+    void estimatesLargeSetsWithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("u:" + i);
+        }
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    void mergeEqualsUnion() {
+        HyperLogLog a = new HyperLogLog();
+        HyperLogLog b = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 3_000; i++) {
+            a.add("e:" + i);
+            union.add("e:" + i);
+        }
+        for (int i = 2_000; i < 6_000; i++) {
+            b.add("e:" + i);
+            union.add("e:" + i);
+        }
+
+        a.merge(b);
+        assertThat(a.estimate()).isEqualTo(union.estimate());
+    }
+
+    @Test
+    void roundTripsSparseAndDenseEncodings() {
+        HyperLogLog small = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            small.add("p:" + i);
+        }
+        byte[] sparse = small.toBytes();
+        assertThat(sparse.length).isLessThan(1 << HyperLogLog.DEFAULT_PRECISION);
+        assertThat(HyperLogLog.fromBytes(sparse).estimate()).isEqualTo(small.estimate());
+
+        HyperLogLog large = new HyperLogLog();
+        for (int i = 0; i < 50_000; i++) {
+            large.add("p:" + i);
+        }
+        byte[] dense = large.toBytes();
+        assertThat(dense.length).isEqualTo(2 + (1 << HyperLogLog.DEFAULT_PRECISION));
+        assertThat(HyperLogLog.fromBytes(dense).estimate()).isEqualTo(large.estimate());
+    }
+}
@@ -0,0 +1,61 @@
+-- ProjectSearchQueryCountTest 전용 스키마/데이터 (H2, MySQL 모드)
+-- projects.funding_rate는 운영 DB에서 생성 컬럼이지만 여기서는 일반 컬럼으로 두고 값을 직접 넣음
+
+CREATE TABLE organizations (
+    org_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    org_name VARCHAR(100) NOT NULL,
+    registration_number VARCHAR(50) NOT NULL,
+    representative VARCHAR(50),
+    verified BOOLEAN DEFAULT FALSE
+);
+
+CREATE TABLE projects (
+    project_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    org_id BIGINT NOT NULL,
+    category_id INT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT NOT NULL,
+    target_amount DECIMAL(15, 2) NOT NULL,
+    current_amount DECIMAL(15, 2) NOT NULL,
+    donor_count INT NOT NULL,
+    favorite_count INT NOT NULL,
+    funding_rate DECIMAL(12, 4),
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    budget_plan TEXT,
+    plan_document_url VARCHAR(500),
+    is_plan_public BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6)
+);
+
+CREATE TABLE project_images (
+    image_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    display_order INT NOT NULL,
+    is_thumbnail BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+-- 기관 3곳, 진행중 프로젝트 60건 (기관을 번갈아 배정), 프로젝트마다 이미지 2장
+INSERT INTO organizations (org_id, user_id, org_name, registration_number, representative, verified)
+SELECT X, X, CONCAT('테스트 기관 ', X), CONCAT('REG-', X), '대표자', TRUE
+FROM SYSTEM_RANGE(1, 3);
+
+INSERT INTO projects (project_id, org_id, category_id, title, description, target_amount, current_amount,
+                      donor_count, favorite_count, funding_rate, start_date, end_date, status, budget_plan,
+                      plan_document_url, is_plan_public, created_at, updated_at)
+SELECT X, MOD(X, 3) + 1, MOD(X, 6) + 1, CONCAT('프로젝트 ', X), '설명', 1000000, X * 1000,
+       X, 0, X * 0.001, DATE '2026-01-01', DATE '2027-01-01', 'ACTIVE', NULL,
+       NULL, TRUE, DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 00:00:00'), NULL
+FROM SYSTEM_RANGE(1, 60);
+
+INSERT INTO project_images (project_id, file_path, file_name, file_size, display_order, is_thumbnail, created_at)
+SELECT p.project_id, CONCAT('/uploads/projects/images/', p.project_id, '-', o.X, '.jpg'),
+       CONCAT(p.project_id, '-', o.X, '.jpg'), 1024, o.X, o.X = 0, TIMESTAMP '2026-01-01 00:00:00'
+FROM projects p CROSS JOIN SYSTEM_RANGE(0, 1) o;
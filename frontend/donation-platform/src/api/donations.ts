@@ -1,4 +1,4 @@
-import { apiClient } from '../lib/apiClient';
+import { apiClient, API_BASE_URL } from '../lib/apiClient';
 
 // ==================== 요청 타입 ====================
 export interface CreateDonationRequest {
@@ -41,6 +41,8 @@ export interface DonationHistoryResponse {
 }
 
 export interface RecentDonationResponse {
+  donationId: number;
+  projectId: number;
   donorName: string; // 익명 처리된 이름 (김**, 익명)
   amount: number;
   projectTitle: string;
@@ -51,7 +53,7 @@ export interface PaymentResponse {
   paymentId: number;
   transactionId: string;
   amount: number;
-  status: 'PENDING' | 'COMPLETED' | 'FAILED';
+  status: 'PENDING' | 'COMPLETED' | 'FAILED' | 'CANCELLED' | 'REFUNDED' | 'EXPIRED';
   paymentMethod: string;
   createdAt: string;
 }
@@ -102,6 +104,24 @@ export const getRecentDonations = async (limit: number = 4): Promise<RecentDonat
   return apiClient.get<RecentDonationResponse[]>(`/donations/recent?limit=${limit}`);
 };
 
+/**
+ * 최근 기부 실시간 구독 (SSE)
+ * 연결 시 현재 목록(snapshot), 이후 새 기부마다 onDonation 호출. 반환 함수로 구독 해제
+ */
+export const subscribeRecentDonations = (handlers: {
+  onSnapshot: (donations: RecentDonationResponse[]) => void;
+  onDonation: (donation: RecentDonationResponse) => void;
+}): (() => void) => {
+  const source = new EventSource(`${API_BASE_URL}/donations/recent/stream`);
+  source.addEventListener('snapshot', (event) => {
+    handlers.onSnapshot(JSON.parse((event as MessageEvent).data));
+  });
+  source.addEventListener('donation', (event) => {
+    handlers.onDonation(JSON.parse((event as MessageEvent).data));
+  });
+  return () => source.close();
+};
+
 /**
  * 프로젝트별 기부 내역
  */
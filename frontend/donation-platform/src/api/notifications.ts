@@ -1,4 +1,5 @@
-import { apiClient } from '../lib/apiClient';
+import { apiClient, API_BASE_URL } from '../lib/apiClient';
+import type { PageResponse } from './projects';
 
 // ==================== 응답 타입 ====================
 export interface NotificationResponse {
@@ -15,11 +16,128 @@ export interface NotificationResponse {
 
 // ==================== API 함수 ====================
 
+export interface NotificationFilters {
+  category?: string;
+  unreadOnly?: boolean;
+  cursor?: string;
+  size?: number;
+}
+
+/**
+ * 나의 알림 목록 (보관되지 않은 알림, 최신순, 커서 기반 페이지네이션)
+ */
+export const getMyNotifications = async (
+  filters: NotificationFilters = {}
+): Promise<PageResponse<NotificationResponse>> => {
+  const params = new URLSearchParams();
+  Object.entries(filters).forEach(([key, value]) => {
+    if (value !== undefined && value !== null && value !== '') {
+      params.append(key, String(value));
+    }
+  });
+  return apiClient.get<PageResponse<NotificationResponse>>(`/notifications?${params.toString()}`);
+};
+
+/**
+ * 알림 스트림 연결 티켓 (60초 동안 한 번 사용 가능)
+ */
+export const getStreamTicket = async (): Promise<{ ticket: string }> => {
+  return apiClient.post<{ ticket: string }>('/notifications/stream-ticket');
+};
+
 /**
- * 나의 알림 목록
+ * 새 알림 실시간 수신 (SSE)
+ * EventSource는 헤더를 보낼 수 없어 로그인 토큰 대신 일회용 티켓을 쿼리로 전달
+ * 티켓은 한 번만 쓸 수 있으므로 끊기면 브라우저 자동 재연결 대신 새 티켓으로 다시 연결하고,
+ * 마지막으로 받은 이벤트 ID(lastEventId) 이후 놓친 알림을 받음
+ * - onConnectionChange: 연결/끊김 (끊긴 동안에는 폴링으로 대체)
+ * - onResync: 목록/개수를 다시 조회해야 할 때 (놓친 알림이 많을 때, 첫 연결 시 - 알림함을 불러온 뒤 연결되기 전에 생긴 알림)
+ * 반환값은 구독 해제 함수
  */
-export const getMyNotifications = async (): Promise<NotificationResponse[]> => {
-  return apiClient.get<NotificationResponse[]>('/notifications');
+export const subscribeNotifications = (handlers: {
+  onNotification: (notification: NotificationResponse) => void;
+  onResync: () => void;
+  onConnectionChange: (connected: boolean) => void;
+}): (() => void) => {
+  if (!apiClient.getToken()) {
+    return () => {};
+  }
+
+  let source: EventSource | null = null;
+  let lastEventId: string | null = null;
+  let retryTimer: ReturnType<typeof setTimeout> | undefined;
+  let retryDelay = 1000;
+  let closed = false;
+
+  const trackEventId = (event: Event) => {
+    const { lastEventId: id } = event as MessageEvent;
+    if (id) {
+      lastEventId = id;
+    }
+  };
+
+  const scheduleReconnect = () => {
+    if (closed) {
+      return;
+    }
+    retryTimer = setTimeout(connect, retryDelay);
+    retryDelay = Math.min(retryDelay * 2, 30000);
+  };
+
+  const connect = async () => {
+    // 로그아웃되면 재연결하지 않음
+    if (!apiClient.getToken()) {
+      return;
+    }
+    let ticket: string;
+    try {
+      ({ ticket } = await getStreamTicket());
+    } catch {
+      scheduleReconnect();
+      return;
+    }
+    if (closed) {
+      return;
+    }
+
+    const params = new URLSearchParams({ ticket });
+    if (lastEventId) {
+      params.append('lastEventId', lastEventId);
+    }
+    source = new EventSource(`${API_BASE_URL}/notifications/stream?${params.toString()}`);
+    source.onopen = () => {
+      retryDelay = 1000;
+      handlers.onConnectionChange(true);
+    };
+    // 끊기면 폴링으로 전환하고 새 티켓으로 재연결
+    source.onerror = () => {
+      source?.close();
+      handlers.onConnectionChange(false);
+      scheduleReconnect();
+    };
+    // 첫 연결은 기준점 이후 알림만 받으므로 그 전에 불러온 목록과의 틈을 다시 조회로 메움
+    source.addEventListener('connected', (event) => {
+      trackEventId(event);
+      handlers.onResync();
+    });
+    source.addEventListener('notification', (event) => {
+      trackEventId(event);
+      handlers.onNotification(JSON.parse((event as MessageEvent).data));
+    });
+    source.addEventListener('resync', (event) => {
+      trackEventId(event);
+      handlers.onResync();
+    });
+  };
+
+  connect();
+
+  return () => {
+    closed = true;
+    clearTimeout(retryTimer);
+    source?.close();
+    handlers.onConnectionChange(false);
+  };
 };
 
 /**
@@ -36,11 +154,33 @@ export const markAsRead = async (id: number): Promise<void> => {
   return apiClient.put<void>(`/notifications/${id}/read`);
 };
 
+export interface NotificationBulkResponse {
+  message: string;
+  count: number;
+}
+
+/**
+ * 알림 일괄 읽음 처리 (category가 있으면 해당 카테고리만)
+ */
+export const markAllAsRead = async (category?: string): Promise<NotificationBulkResponse> => {
+  const query = category ? `?category=${encodeURIComponent(category)}` : '';
+  return apiClient.put<NotificationBulkResponse>(`/notifications/read-all${query}`);
+};
+
+/**
+ * 오래된 알림 일괄 보관 (읽은 알림만, 읽지 않은 알림은 알림함에 남음)
+ */
+export const archiveOldNotifications = async (
+  olderThanDays: number
+): Promise<NotificationBulkResponse> => {
+  return apiClient.put<NotificationBulkResponse>(`/notifications/archive?olderThanDays=${olderThanDays}`);
+};
+
 /**
- * 모든 알림 읽음 처리
+ * 선택한 알림 일괄 삭제
  */
-export const markAllAsRead = async (): Promise<void> => {
-  return apiClient.put<void>('/notifications/read-all');
+export const deleteNotifications = async (ids: number[]): Promise<NotificationBulkResponse> => {
+  return apiClient.delete<NotificationBulkResponse>(`/notifications?ids=${ids.join(',')}`);
 };
 
 /**
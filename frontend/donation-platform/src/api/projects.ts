@@ -11,6 +11,7 @@ export interface ProjectFilters {
   search?: string;
   page?: number;
   size?: number;
+  cursor?: string;
 }
 
 export interface CreateProjectRequest {
@@ -28,10 +29,12 @@ export interface UpdateProjectRequest extends Partial<CreateProjectRequest> {}
 // ==================== 응답 타입 ====================
 export interface PageResponse<T> {
   content: T[];
-  currentPage: number;
-  totalPages: number;
-  totalElements: number;
+  currentPage: number | null;       // 커서 기반 응답(목록/검색/기부자)은 null
+  totalPages: number | null;
+  totalElements: number | null;
   size: number;
+  nextCursor?: string;              // 다음 페이지 커서 (마지막 페이지면 없음)
+  hasNext?: boolean;
 }
 
 export interface ProjectDetailResponse {
@@ -42,6 +45,7 @@ export interface ProjectDetailResponse {
   targetAmount: number;
   dday: number;
   donors: number;
+  uniqueDonors?: number;            // 고유 기부자 수 추정치 (반복 기부는 한 명)
   image: string;
   description: string;
   status: 'approved' | 'pending' | 'rejected';
@@ -71,6 +75,11 @@ export interface ProjectDetailResponse {
   }>;
 }
 
+export interface ProjectSuggestion {
+  projectId: number;
+  title: string;
+}
+
 export interface DonorResponse {
   id: number;
   name: string;
@@ -114,6 +123,20 @@ export const getPopularProjects = async (limit: number = 4): Promise<Project[]>
   return apiClient.get<Project[]>(`/projects/popular?limit=${limit}`);
 };
 
+/**
+ * 트렌딩 프로젝트 조회 (최근 활동 기준)
+ */
+export const getTrendingProjects = async (limit: number = 8): Promise<Project[]> => {
+  return apiClient.get<Project[]>(`/projects/trending?limit=${limit}`);
+};
+
+/**
+ * 검색어 자동완성 (초성 검색 지원, 예: "ㅇㄹㅇ")
+ */
+export const suggestProjects = async (q: string, limit: number = 8): Promise<ProjectSuggestion[]> => {
+  return apiClient.get<ProjectSuggestion[]>(`/projects/suggest?q=${encodeURIComponent(q)}&limit=${limit}`);
+};
+
 /**
  * 프로젝트 상세 조회
  */
@@ -146,14 +169,20 @@ export const deleteProject = async (id: number): Promise<void> => {
 };
 
 /**
- * 프로젝트 기부자 목록
+ * 프로젝트 기부자 목록 (최신순, 커서 기반 페이지네이션)
  */
 export const getProjectDonors = async (
   projectId: number,
-  showAnonymous: boolean = true
-): Promise<DonorResponse[]> => {
-  return apiClient.get<DonorResponse[]>(
-    `/projects/${projectId}/donors?showAnonymous=${showAnonymous}`
+  showAnonymous: boolean = true,
+  cursor?: string,
+  size: number = 20
+): Promise<PageResponse<DonorResponse>> => {
+  const params = new URLSearchParams({ showAnonymous: String(showAnonymous), size: String(size) });
+  if (cursor) {
+    params.append('cursor', cursor);
+  }
+  return apiClient.get<PageResponse<DonorResponse>>(
+    `/projects/${projectId}/donors?${params.toString()}`
   );
 };
 
@@ -218,6 +247,14 @@ export const getUserFavoriteProjects = async (): Promise<number[]> => {
   return response.data;
 };
 
+/**
+ * 사용자의 관심 프로젝트 카드 목록 (최신 등록순)
+ */
+export const getUserFavoriteProjectDetails = async (): Promise<Project[]> => {
+  const response = await apiClient.get<{ data: Project[]; message: string; success: boolean }>(`/favorites/projects/details`);
+  return response.data;
+};
+
 // ==================== 기부 옵션 API ====================
 
 /**
@@ -3,7 +3,7 @@ import { Link, useLocation } from 'react-router-dom';
 import { Heart, Bell, User, LogOut } from 'lucide-react';
 import NotificationDropdown from './NotificationDropdown';
 import type { UserType, UserProfile } from '../../types';
-import { useUnreadCount } from '../../hooks/useNotifications';
+import { useNotificationStream, useUnreadCount } from '../../hooks/useNotifications';
 
 interface HeaderProps {
   isLoggedIn: boolean;
@@ -23,6 +23,8 @@ const Header: React.FC<HeaderProps> = ({
 
   // 실제 API에서 읽지 않은 알림 개수 가져오기 (로그인 상태일 때만)
   const { data: unreadData } = useUnreadCount(isLoggedIn);
+  // 새 알림 실시간 수신 (연결된 동안에는 알림 폴링 중지)
+  useNotificationStream(isLoggedIn);
 
   // 251027추가
   const handleShowConsentModal = () => {
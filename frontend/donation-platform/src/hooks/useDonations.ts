@@ -1,4 +1,5 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useEffect } from 'react';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import * as donationsApi from '../api/donations';
 
 /**
@@ -13,13 +14,27 @@ export function useMyDonations(filters: donationsApi.DonationFilters = {}) {
 
 /**
  * 최근 기부 내역 조회 (공개, 홈페이지용)
+ * 첫 조회 후 SSE로 새 기부를 받아 목록 앞에 추가 (폴링 없음, 연결이 끊기면 브라우저가 자동 재연결)
  */
 export function useRecentDonations(limit: number = 4) {
+  const queryClient = useQueryClient();
+  const queryKey = ['recent-donations', limit];
+
+  useEffect(() => {
+    return donationsApi.subscribeRecentDonations({
+      onSnapshot: (donations) => queryClient.setQueryData(queryKey, donations.slice(0, limit)),
+      onDonation: (donation) =>
+        queryClient.setQueryData<donationsApi.RecentDonationResponse[]>(queryKey, (prev = []) =>
+          [donation, ...prev.filter((d) => d.donationId !== donation.donationId)].slice(0, limit)
+        ),
+    });
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [queryClient, limit]);
+
   return useQuery({
-    queryKey: ['recent-donations', limit],
+    queryKey,
     queryFn: () => donationsApi.getRecentDonations(limit),
-    // 30초마다 자동 갱신 (실시간 기부 현황)
-    refetchInterval: 30000,
+    staleTime: Infinity,
   });
 }
 
@@ -38,12 +53,16 @@ export function useProjectDonations(projectId: number) {
  * 프로젝트 기부자 목록 (projects API 사용)
  */
 export function useDonors(projectId: number) {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ['project-donors', projectId],
-    queryFn: async () => {
+    queryFn: async ({ pageParam }) => {
       const { getProjectDonors } = await import('../api/projects');
-      return getProjectDonors(projectId);
+      return getProjectDonors(projectId, true, pageParam);
     },
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+    // 지금까지 불러온 페이지를 이어 붙인 기부자 배열 (fetchNextPage로 다음 페이지 추가)
+    select: (data) => data.pages.flatMap((page) => page.content),
     enabled: !!projectId,
   });
 }
@@ -1,15 +1,91 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useEffect, useSyncExternalStore } from 'react';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import type { InfiniteData } from '@tanstack/react-query';
+import type { PageResponse } from '../api/projects';
 import * as notificationsApi from '../api/notifications';
 
+// 알림 스트림(SSE) 연결 상태 - 연결된 동안에는 폴링하지 않음
+let streamConnected = false;
+const streamListeners = new Set<() => void>();
+
+const setStreamConnected = (connected: boolean) => {
+  if (streamConnected !== connected) {
+    streamConnected = connected;
+    streamListeners.forEach((listener) => listener());
+  }
+};
+
+const useStreamConnected = () =>
+  useSyncExternalStore(
+    (listener) => {
+      streamListeners.add(listener);
+      return () => streamListeners.delete(listener);
+    },
+    () => streamConnected
+  );
+
 /**
- * 나의 알림 목록
+ * 새 알림 실시간 수신 (로그인 상태에서 한 곳에서만 사용, 예: Header)
+ * 받은 알림은 목록 첫 페이지 맨 앞에 넣고 읽지 않은 개수를 다시 조회
  */
-export function useMyNotifications() {
-  return useQuery({
-    queryKey: ['my-notifications'],
-    queryFn: notificationsApi.getMyNotifications,
-    // 30초마다 자동 갱신
-    refetchInterval: 30000,
+export function useNotificationStream(enabled: boolean = true) {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    if (!enabled) {
+      return;
+    }
+    return notificationsApi.subscribeNotifications({
+      onNotification: (notification) => {
+        // 카테고리 필터가 맞는 목록에만 추가
+        queryClient.setQueriesData<InfiniteData<PageResponse<notificationsApi.NotificationResponse>>>(
+          {
+            queryKey: ['my-notifications'],
+            predicate: (query) => {
+              const filters = query.queryKey[1] as notificationsApi.NotificationFilters | undefined;
+              return !filters?.category || filters.category === notification.category;
+            },
+          },
+          (data) => {
+            if (!data || data.pages.length === 0) {
+              return data;
+            }
+            const [first, ...rest] = data.pages;
+            if (first.content.some((n) => n.notificationId === notification.notificationId)) {
+              return data;
+            }
+            return { ...data, pages: [{ ...first, content: [notification, ...first.content] }, ...rest] };
+          }
+        );
+        // 재연결 시 다시 받은 알림을 중복으로 세지 않도록 개수는 서버 값(메모리 카운터)으로 갱신
+        queryClient.invalidateQueries({ queryKey: ['unread-count'] });
+      },
+      onResync: () => {
+        queryClient.invalidateQueries({ queryKey: ['my-notifications'] });
+        queryClient.invalidateQueries({ queryKey: ['unread-count'] });
+      },
+      onConnectionChange: setStreamConnected,
+    });
+  }, [queryClient, enabled]);
+}
+
+/**
+ * 나의 알림 목록 (커서 기반, fetchNextPage로 다음 페이지 추가)
+ * data는 지금까지 불러온 페이지를 이어 붙인 알림 배열
+ */
+export function useMyNotifications(
+  filters: Omit<notificationsApi.NotificationFilters, 'cursor'> = {}
+) {
+  const connected = useStreamConnected();
+
+  return useInfiniteQuery({
+    queryKey: ['my-notifications', filters],
+    queryFn: ({ pageParam }) => notificationsApi.getMyNotifications({ ...filters, cursor: pageParam }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+    select: (data) => data.pages.flatMap((page) => page.content),
+    // 알림 스트림이 끊긴 동안에만 30초마다 자동 갱신
+    refetchInterval: connected ? false : 30000,
   });
 }
 
@@ -17,11 +93,13 @@ export function useMyNotifications() {
  * 읽지 않은 알림 개수
  */
 export function useUnreadCount(enabled: boolean = true) {
+  const connected = useStreamConnected();
+
   return useQuery({
     queryKey: ['unread-count'],
     queryFn: notificationsApi.getUnreadCount,
-    // 30초마다 자동 갱신
-    refetchInterval: 30000,
+    // 알림 스트림이 끊긴 동안에만 30초마다 자동 갱신
+    refetchInterval: connected ? false : 30000,
     enabled, // 로그인 상태일 때만 쿼리 실행
   });
 }
@@ -48,7 +126,7 @@ export function useMarkAllAsRead() {
   const queryClient = useQueryClient();
 
   return useMutation({
-    mutationFn: notificationsApi.markAllAsRead,
+    mutationFn: (category?: string) => notificationsApi.markAllAsRead(category),
     onSuccess: () => {
       queryClient.invalidateQueries({ queryKey: ['my-notifications'] });
       queryClient.invalidateQueries({ queryKey: ['unread-count'] });
@@ -70,3 +148,32 @@ export function useDeleteNotification() {
     },
   });
 }
+
+/**
+ * 오래된 알림 일괄 보관 (읽은 알림만)
+ */
+export function useArchiveOldNotifications() {
+  const queryClient = useQueryClient();
+
+  return useMutation({
+    mutationFn: notificationsApi.archiveOldNotifications,
+    onSuccess: () => {
+      queryClient.invalidateQueries({ queryKey: ['my-notifications'] });
+    },
+  });
+}
+
+/**
+ * 선택한 알림 일괄 삭제
+ */
+export function useDeleteNotifications() {
+  const queryClient = useQueryClient();
+
+  return useMutation({
+    mutationFn: notificationsApi.deleteNotifications,
+    onSuccess: () => {
+      queryClient.invalidateQueries({ queryKey: ['my-notifications'] });
+      queryClient.invalidateQueries({ queryKey: ['unread-count'] });
+    },
+  });
+}
@@ -1,13 +1,17 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import * as projectsApi from '../api/projects';
 
 /**
- * 프로젝트 목록 조회
+ * 프로젝트 목록 조회 (커서 기반, fetchNextPage로 다음 페이지 추가)
+ * data는 지금까지 불러온 페이지를 이어 붙인 프로젝트 배열
  */
-export function useProjects(filters: projectsApi.ProjectFilters = {}) {
-  return useQuery({
+export function useProjects(filters: Omit<projectsApi.ProjectFilters, 'cursor'> = {}) {
+  return useInfiniteQuery({
     queryKey: ['projects', filters],
-    queryFn: () => projectsApi.getProjects(filters),
+    queryFn: ({ pageParam }) => projectsApi.getProjects({ ...filters, cursor: pageParam }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+    select: (data) => data.pages.flatMap((page) => page.content),
     // 30초마다 백그라운드에서 자동 갱신
     refetchInterval: 30000,
   });
@@ -44,12 +48,15 @@ export function useProjectDetail(id: number) {
 }
 
 /**
- * 프로젝트 기부자 목록
+ * 프로젝트 기부자 목록 (커서 기반, fetchNextPage로 다음 페이지 추가)
  */
 export function useProjectDonors(projectId: number, showAnonymous: boolean = true) {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ['project-donors', projectId, showAnonymous],
-    queryFn: () => projectsApi.getProjectDonors(projectId, showAnonymous),
+    queryFn: ({ pageParam }) => projectsApi.getProjectDonors(projectId, showAnonymous, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+    select: (data) => data.pages.flatMap((page) => page.content),
     enabled: !!projectId,
   });
 }
@@ -171,6 +178,18 @@ export function useToggleFavoriteProject() {
   });
 }
 
+/**
+ * 사용자의 관심 프로젝트 카드 목록 조회 (공개 목록에서 거르지 않고 전용 API 사용)
+ */
+export function useUserFavoriteProjectDetails(enabled: boolean = true) {
+  return useQuery({
+    queryKey: ['favorite-projects', 'details'],
+    queryFn: () => projectsApi.getUserFavoriteProjectDetails(),
+    enabled, // 로그인 상태에서만 실행
+    retry: false, // 인증 실패 시 재시도 안함
+  });
+}
+
 /**
  * 사용자의 관심 프로젝트 목록 조회
  */
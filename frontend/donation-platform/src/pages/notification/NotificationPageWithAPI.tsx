@@ -1,7 +1,7 @@
 import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Bell, Search, CheckCheck, Archive, Trash2, Heart, MessageCircle, TrendingUp, Calendar, DollarSign, AlertCircle, X as XIcon, Settings, ArrowLeft, Star, ExternalLink, Loader2 } from 'lucide-react';
-import { useMyNotifications, useMarkAsRead, useMarkAllAsRead, useDeleteNotification } from '../../hooks/useNotifications';
+import { useMyNotifications, useMarkAsRead, useMarkAllAsRead, useArchiveOldNotifications, useDeleteNotification, useDeleteNotifications } from '../../hooks/useNotifications';
 import { useNotificationSettings, useUpdateNotificationSettings } from '../../hooks/useUsers';
 import type { NotificationResponse } from '../../api/notifications';
 
@@ -9,11 +9,20 @@ const NotificationPageWithAPI: React.FC = () => {
   const navigate = useNavigate();
 
   // API hooks
-  const { data: notificationsData, isLoading, error } = useMyNotifications();
+  const {
+    data: notificationsData,
+    isLoading,
+    error,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+  } = useMyNotifications();
   const { data: settingsData } = useNotificationSettings();
   const markAsReadMutation = useMarkAsRead();
   const markAllAsReadMutation = useMarkAllAsRead();
+  const archiveOldMutation = useArchiveOldNotifications();
   const deleteNotificationMutation = useDeleteNotification();
+  const deleteNotificationsMutation = useDeleteNotifications();
   const updateSettingsMutation = useUpdateNotificationSettings();
 
   // UI states
@@ -173,9 +182,8 @@ const NotificationPageWithAPI: React.FC = () => {
   };
 
   const deleteSelected = () => {
-    selectedNotifications.forEach(id => {
-      deleteNotificationMutation.mutate(id);
-    });
+    // 한 번의 요청으로 일괄 삭제
+    deleteNotificationsMutation.mutate(Array.from(selectedNotifications));
     setSelectedNotifications(new Set());
   };
 
@@ -192,7 +200,13 @@ const NotificationPageWithAPI: React.FC = () => {
   };
 
   const handleMarkAllAsRead = () => {
-    markAllAsReadMutation.mutate();
+    // 카테고리 탭이 선택되어 있으면 해당 카테고리만 읽음 처리
+    markAllAsReadMutation.mutate(selectedCategory === 'all' ? undefined : selectedCategory);
+  };
+
+  const handleArchiveOld = () => {
+    // 30일 지난 읽은 알림만 보관 (읽지 않은 알림은 그대로 남음)
+    archiveOldMutation.mutate(30);
   };
 
   const handleDelete = (id: number) => {
@@ -392,15 +406,25 @@ const NotificationPageWithAPI: React.FC = () => {
                     </>
                   )}
                 </div>
-                {unreadCount > 0 && (
+                <div className="flex items-center gap-3">
                   <button
-                    onClick={handleMarkAllAsRead}
-                    className="px-4 py-2 bg-red-50 text-red-600 rounded-lg font-medium hover:bg-red-100 transition-colors flex items-center gap-2"
+                    onClick={handleArchiveOld}
+                    disabled={archiveOldMutation.isPending}
+                    className="px-4 py-2 bg-gray-50 text-gray-600 rounded-lg font-medium hover:bg-gray-100 transition-colors flex items-center gap-2 disabled:opacity-50"
                   >
-                    <CheckCheck size={16} />
-                    모두 읽음
+                    <Archive size={16} />
+                    오래된 알림 보관
                   </button>
-                )}
+                  {unreadCount > 0 && (
+                    <button
+                      onClick={handleMarkAllAsRead}
+                      className="px-4 py-2 bg-red-50 text-red-600 rounded-lg font-medium hover:bg-red-100 transition-colors flex items-center gap-2"
+                    >
+                      <CheckCheck size={16} />
+                      모두 읽음
+                    </button>
+                  )}
+                </div>
               </div>
             </div>
 
@@ -515,6 +539,17 @@ const NotificationPageWithAPI: React.FC = () => {
                     </div>
                   </div>
                 ))}
+                {hasNextPage && (
+                  <div className="text-center">
+                    <button
+                      onClick={() => fetchNextPage()}
+                      disabled={isFetchingNextPage}
+                      className="px-6 py-2 bg-white border border-gray-200 rounded-lg text-sm font-medium text-gray-700 hover:bg-gray-50 transition-colors disabled:opacity-50"
+                    >
+                      {isFetchingNextPage ? '불러오는 중...' : '이전 알림 더 보기'}
+                    </button>
+                  </div>
+                )}
               </div>
             )}
           </div>
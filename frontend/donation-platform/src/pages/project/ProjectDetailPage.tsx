@@ -39,7 +39,13 @@ const ProjectDetailPage: React.FC<ProjectDetailPageProps> = ({
   const { data: project, isLoading: isLoadingProject, isError: isErrorProject, error: projectError } = useProjectDetail(projectId);
 
   // API: 기부자 목록 조회
-  const { data: donors = [], isLoading: isLoadingDonors } = useDonors(projectId);
+  const {
+    data: donors = [],
+    isLoading: isLoadingDonors,
+    fetchNextPage: fetchMoreDonors,
+    hasNextPage: hasMoreDonors,
+    isFetchingNextPage: isFetchingMoreDonors,
+  } = useDonors(projectId);
 
   // API: 관심 프로젝트 토글
   const toggleFavoriteMutation = useToggleFavoriteProject();
@@ -317,18 +323,16 @@ const ProjectDetailPage: React.FC<ProjectDetailPageProps> = ({
                 <div className="grid grid-cols-3 gap-4">
                   <div className="p-6 bg-gradient-to-br from-red-50 to-pink-50 rounded-lg">
                     <p className="text-sm text-gray-600 mb-2">기부자 수</p>
-                    <p className="text-3xl font-bold text-red-600">{donors.length}명</p>
+                    <p className="text-3xl font-bold text-red-600">{project?.donors ?? donors.length}명</p>
                   </div>
                   <div className="p-6 bg-gradient-to-br from-blue-50 to-cyan-50 rounded-lg">
                     <p className="text-sm text-gray-600 mb-2">총 기부액</p>
                     <p className="text-3xl font-bold text-blue-600">
-                      {donors.length > 0
-                        ? formatAmount(donors.reduce((sum, d) => sum + d.amount, 0))
-                        : 0}원
+                      {formatAmount(project?.currentAmount ?? donors.reduce((sum, d) => sum + d.amount, 0))}원
                     </p>
                   </div>
                   <div className="p-6 bg-gradient-to-br from-purple-50 to-indigo-50 rounded-lg">
-                    <p className="text-sm text-gray-600 mb-2">최고 기부액</p>
+                    <p className="text-sm text-gray-600 mb-2">최고 기부액{hasMoreDonors ? ' (불러온 목록 기준)' : ''}</p>
                     <p className="text-3xl font-bold text-purple-600">
                       {donors.length > 0
                         ? formatAmount(Math.max(...donors.map(d => d.amount)))
@@ -397,6 +401,17 @@ const ProjectDetailPage: React.FC<ProjectDetailPageProps> = ({
                         ))
                     )}
                   </div>
+                  {hasMoreDonors && (
+                    <div className="p-4 border-t border-gray-200 text-center">
+                      <button
+                        onClick={() => fetchMoreDonors()}
+                        disabled={isFetchingMoreDonors}
+                        className="px-6 py-2 bg-white border border-gray-300 rounded-lg text-sm font-medium text-gray-700 hover:bg-gray-50 disabled:opacity-50"
+                      >
+                        {isFetchingMoreDonors ? '불러오는 중...' : '기부자 더 보기'}
+                      </button>
+                    </div>
+                  )}
                 </div>
               </>
             )}
@@ -450,6 +465,17 @@ const ProjectDetailPage: React.FC<ProjectDetailPageProps> = ({
                 ))}
               </div>
             )}
+            {!isLoadingDonors && hasMoreDonors && (
+              <div className="text-center">
+                <button
+                  onClick={() => fetchMoreDonors()}
+                  disabled={isFetchingMoreDonors}
+                  className="px-6 py-2 bg-white border border-gray-300 rounded-lg text-sm font-medium text-gray-700 hover:bg-gray-50 disabled:opacity-50"
+                >
+                  {isFetchingMoreDonors ? '불러오는 중...' : '응원 메시지 더 보기'}
+                </button>
+              </div>
+            )}
           </div>
         );
       default:
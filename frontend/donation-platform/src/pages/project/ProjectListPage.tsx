@@ -12,6 +12,14 @@ interface ProjectListPageProps {
   onNavigateToLogin: () => void;
 }
 
+// 정렬 옵션 -> API sortBy ('기본'은 보내지 않아 서버 기본 정렬 사용)
+const SORT_OPTIONS: Record<string, string | undefined> = {
+  기본: undefined,
+  최신순: 'latest',
+  마감임박순: 'deadline',
+  모금률순: 'fundingRate',
+};
+
 const ProjectListPage: React.FC<ProjectListPageProps> = ({
   isLoggedIn,
   favoriteProjectIds,
@@ -20,7 +28,8 @@ const ProjectListPage: React.FC<ProjectListPageProps> = ({
 }) => {
   // State
   const [selectedCategory, setSelectedCategory] = useState<string>('전체');
-  const [sortOption, setSortOption] = useState<string>('최신순');
+  // '기본': 검색어가 있으면 관련도순, 없으면 최신순 (서버 기본 정렬)
+  const [sortOption, setSortOption] = useState<string>('기본');
   const [searchKeyword, setSearchKeyword] = useState<string>(''); // 사용자 입력
   const [debouncedSearchKeyword, setDebouncedSearchKeyword] = useState<string>(''); // API 호출용
 
@@ -33,12 +42,28 @@ const ProjectListPage: React.FC<ProjectListPageProps> = ({
     return () => clearTimeout(timer);
   }, [searchKeyword]);
 
+  // 검색어를 지우면 '최신순' 선택은 기본(최신순)으로 합침 (검색어가 없을 때는 따로 표시하지 않음)
+  useEffect(() => {
+    if (!debouncedSearchKeyword.trim() && sortOption === '최신순') {
+      setSortOption('기본');
+    }
+  }, [debouncedSearchKeyword, sortOption]);
+
   // API: 프로젝트 목록 조회
-  const { data: projects, isLoading, isError, error, refetch } = useProjects({
+  const {
+    data: projects,
+    isLoading,
+    isError,
+    error,
+    refetch,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+  } = useProjects({
     status: 'approved',
     category: selectedCategory === '전체' ? undefined : selectedCategory,
     search: debouncedSearchKeyword.trim() || undefined,
-    sortBy: sortOption === '최신순' ? 'latest' : sortOption === '마감임박순' ? 'deadline' : 'fundingRate',
+    sortBy: SORT_OPTIONS[sortOption],
   });
 
   // API: 관심 프로젝트 토글
@@ -113,7 +138,7 @@ const ProjectListPage: React.FC<ProjectListPageProps> = ({
     );
   }
 
-  const displayProjects = projects?.content || [];
+  const displayProjects = projects || [];
 
   return (
     <div className="bg-gray-50 min-h-screen">
@@ -159,7 +184,8 @@ const ProjectListPage: React.FC<ProjectListPageProps> = ({
             onChange={(e) => setSortOption(e.target.value)}
             className="px-4 md:px-6 py-3 md:py-4 border border-gray-300 rounded-lg focus:outline-none focus:border-red-500 cursor-pointer text-sm md:text-base"
           >
-            <option>최신순</option>
+            <option value="기본">{debouncedSearchKeyword.trim() ? '관련도순' : '최신순'}</option>
+            {debouncedSearchKeyword.trim() && <option>최신순</option>}
             <option>마감임박순</option>
             <option>모금률순</option>
           </select>
@@ -313,6 +339,17 @@ const ProjectListPage: React.FC<ProjectListPageProps> = ({
                 })}
               </div>
             )}
+            {hasNextPage && (
+              <div className="text-center mt-8 md:mt-10">
+                <button
+                  onClick={() => fetchNextPage()}
+                  disabled={isFetchingNextPage}
+                  className="px-6 py-3 bg-white border border-gray-300 rounded-lg font-bold text-gray-700 hover:bg-gray-50 disabled:opacity-50"
+                >
+                  {isFetchingNextPage ? '불러오는 중...' : '프로젝트 더 보기'}
+                </button>
+              </div>
+            )}
           </>
         )}
       </div>
@@ -10,7 +10,7 @@ import {
 import PiggyBankPage from './PiggyBankPage';
 import DonationHistoryPage from './DonationHistoryPage';
 import { useAuthStore } from '../../stores/authStore';
-import { useUserFavoriteProjects, useProjects, useToggleFavoriteProject } from '../../hooks/useProjects';
+import { useUserFavoriteProjectDetails, useToggleFavoriteProject } from '../../hooks/useProjects';
 import type {
   UserType,
   UserProfile,
@@ -47,15 +47,8 @@ const ProfilePage: React.FC<ProfilePageProps> = ({
   const [selectedMenu, setSelectedMenu] = useState<'main' | 'profile-edit' | 'donation-history' | 'favorite-projects' | 'piggy-bank'>('main');
   const [showPasswordModal, setShowPasswordModal] = useState(false);
 
-  // ✅ 실제 API로 관심 프로젝트 ID 조회
-  const { data: favoriteProjectIds = [], isLoading: isFavoriteIdsLoading } = useUserFavoriteProjects(isLoggedIn);
-
-  // ✅ 관심 프로젝트 ID 목록으로 프로젝트 전체 목록 조회 (필터링된 프로젝트만)
-  const { data: allProjectsData, isLoading: isProjectsLoading } = useProjects({});
-  const favoriteProjects = React.useMemo(() => {
-    if (!allProjectsData?.content) return [];
-    return allProjectsData.content.filter((p: Project) => favoriteProjectIds.includes(p.id));
-  }, [allProjectsData, favoriteProjectIds]);
+  // ✅ 관심 프로젝트 카드 목록 조회 (전용 API, 공개 목록 페이지 범위와 무관)
+  const { data: favoriteProjects = [], isLoading: isFavoriteProjectsLoading } = useUserFavoriteProjectDetails(isLoggedIn);
 
   // ✅ 관심 프로젝트 토글 mutation
   const toggleFavoriteMutation = useToggleFavoriteProject();
@@ -460,7 +453,7 @@ const ProfilePage: React.FC<ProfilePageProps> = ({
 
   // 관심 프로젝트 페이지
   const FavoriteProjectsPage = () => {
-    const isLoading = isFavoriteIdsLoading || isProjectsLoading;
+    const isLoading = isFavoriteProjectsLoading;
 
     return (
       <div className="bg-gray-50 min-h-screen">